@@ -0,0 +1,90 @@
+package org.example.benchmark;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sign and verify cost of HS256, ES256 and EdDSA (Ed25519) on the application's token shape
+ * (sub, role, iat, exp, plus kid for asymmetric keys). Signing is on the login path,
+ * verification on every request that misses the verified-token cache.
+ *
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtSigningBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private Supplier<String> signer;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        switch (algorithm) {
+            case "HS256" -> {
+                SecretKey key = Jwts.SIG.HS256.key().build();
+                signer = () -> claims().signWith(key, Jwts.SIG.HS256).compact();
+                parser = Jwts.parser().verifyWith(key).build();
+            }
+            case "ES256" -> {
+                KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+                signer = () -> claims().header().keyId("bench").and()
+                        .signWith(keyPair.getPrivate(), Jwts.SIG.ES256).compact();
+                parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+            }
+            case "EdDSA" -> {
+                KeyPair keyPair = Jwks.CRV.Ed25519.keyPair().build();
+                signer = () -> claims().header().keyId("bench").and()
+                        .signWith(keyPair.getPrivate(), Jwts.SIG.EdDSA).compact();
+                parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+            }
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        token = signer.get();
+    }
+
+    private static JwtBuilder claims() {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject("susan_rodriguez_5")
+                .claim("role", "ROLE_ADMIN")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3600_000));
+    }
+
+    @Benchmark
+    public String sign() {
+        return signer.get();
+    }
+
+    @Benchmark
+    public Object verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
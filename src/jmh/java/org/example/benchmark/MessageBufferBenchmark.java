@@ -0,0 +1,91 @@
+package org.example.benchmark;
+
+import org.example.messaging.StripedRingBag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random and FIFO retrieval from the consumed-message buffer: the previous ConcurrentLinkedQueue
+ * (reservoir sampling plus remove(Object), both O(n)) against StripedRingBag (swap-remove).
+ * Every operation re-adds the removed message, so the buffer size stays constant.
+ *
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="MessageBufferBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageBufferBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private ConcurrentLinkedQueue<String> queue;
+    private StripedRingBag bag;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = new ConcurrentLinkedQueue<>();
+        bag = new StripedRingBag(8);
+        for (int i = 0; i < size; i++) {
+            String message = "test_message_" + i;
+            queue.add(message);
+            bag.add(message);
+        }
+    }
+
+    @Benchmark
+    public String queueRandom() {
+        Iterator<String> iterator = queue.iterator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String selected = null;
+        int count = 0;
+        while (iterator.hasNext()) {
+            String message = iterator.next();
+            if (random.nextInt(++count) == 0) {
+                selected = message;
+            }
+        }
+        queue.remove(selected);
+        queue.add(selected);
+        return selected;
+    }
+
+    @Benchmark
+    public String bagRandom() {
+        String selected = bag.pollRandom();
+        bag.add(selected);
+        return selected;
+    }
+
+    @Benchmark
+    public String queueFifo() {
+        String message = queue.poll();
+        queue.add(message);
+        return message;
+    }
+
+    @Benchmark
+    public String bagFifo() {
+        String message = bag.poll();
+        bag.add(message);
+        return message;
+    }
+}
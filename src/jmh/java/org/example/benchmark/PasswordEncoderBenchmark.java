@@ -0,0 +1,79 @@
+package org.example.benchmark;
+
+import org.example.config.PasswordEncoderProperties;
+import org.example.security.PasswordEncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-hash latency of the supported password hashing algorithms at different costs.
+ * Login cost is dominated by matches(); one hashing thread sustains roughly 1000 / avgt(ms) logins per second.
+ *
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PasswordEncoderBenchmark"
+ * Pick costs: -Djmh.args="PasswordEncoderBenchmark -p config=bcrypt:12,argon2:65536:3"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "student5pass";
+
+    /**
+     * algorithm:cost[:cost2] - bcrypt:strength, argon2:memoryKb:iterations,
+     * pbkdf2:iterations, scrypt:cpuCost (N)
+     */
+    @Param({
+            "bcrypt:8", "bcrypt:10", "bcrypt:12",
+            "argon2:16384:2", "argon2:65536:3",
+            "pbkdf2:310000", "pbkdf2:600000",
+            "scrypt:16384", "scrypt:65536"
+    })
+    public String config;
+
+    private PasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        String[] parts = config.split(":");
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        switch (parts[0]) {
+            case PasswordEncoderFactory.BCRYPT -> properties.getBcrypt().setStrength(Integer.parseInt(parts[1]));
+            case PasswordEncoderFactory.ARGON2 -> {
+                properties.getArgon2().setMemoryKb(Integer.parseInt(parts[1]));
+                properties.getArgon2().setIterations(Integer.parseInt(parts[2]));
+            }
+            case PasswordEncoderFactory.PBKDF2 -> properties.getPbkdf2().setIterations(Integer.parseInt(parts[1]));
+            case PasswordEncoderFactory.SCRYPT -> properties.getScrypt().setCpuCost(Integer.parseInt(parts[1]));
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + parts[0]);
+        }
+        encoder = PasswordEncoderFactory.createEncoder(parts[0], properties);
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+}
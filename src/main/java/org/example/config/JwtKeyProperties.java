@@ -0,0 +1,97 @@
+package org.example.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for JWT signing keys.
+ * HMAC (default) signs with ltapp.auth.jwt.secret; ES256 and EdDSA sign with a private key and
+ * publish the public keys via JWKS. Additional verification keys keep tokens signed with
+ * previous keys valid during key rotation.
+ */
+@Component
+@ConfigurationProperties(prefix = "ltapp.auth.jwt")
+public class JwtKeyProperties {
+    private String algorithm = "HMAC"; // HMAC, ES256, EdDSA
+    private String keyId; // Defaults to the RFC 7638 thumbprint of the public key
+    private Resource privateKeyLocation; // PKCS#8 PEM; an ephemeral key pair is generated when not set
+    private Resource publicKeyLocation; // X.509 PEM, matching the private key
+    private List<VerificationKey> verificationKeys = new ArrayList<>();
+    private boolean acceptLegacyHmacTokens = false; // ES256/EdDSA only: still accept HMAC tokens without kid
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public void setKeyId(String keyId) {
+        this.keyId = keyId;
+    }
+
+    public Resource getPrivateKeyLocation() {
+        return privateKeyLocation;
+    }
+
+    public void setPrivateKeyLocation(Resource privateKeyLocation) {
+        this.privateKeyLocation = privateKeyLocation;
+    }
+
+    public Resource getPublicKeyLocation() {
+        return publicKeyLocation;
+    }
+
+    public void setPublicKeyLocation(Resource publicKeyLocation) {
+        this.publicKeyLocation = publicKeyLocation;
+    }
+
+    public List<VerificationKey> getVerificationKeys() {
+        return verificationKeys;
+    }
+
+    public void setVerificationKeys(List<VerificationKey> verificationKeys) {
+        this.verificationKeys = verificationKeys;
+    }
+
+    public boolean isAcceptLegacyHmacTokens() {
+        return acceptLegacyHmacTokens;
+    }
+
+    public void setAcceptLegacyHmacTokens(boolean acceptLegacyHmacTokens) {
+        this.acceptLegacyHmacTokens = acceptLegacyHmacTokens;
+    }
+
+    /**
+     * Public key that is accepted for verification but not used for signing (e.g. the previous key).
+     */
+    public static class VerificationKey {
+        private String keyId;
+        private Resource publicKeyLocation;
+
+        public String getKeyId() {
+            return keyId;
+        }
+
+        public void setKeyId(String keyId) {
+            this.keyId = keyId;
+        }
+
+        public Resource getPublicKeyLocation() {
+            return publicKeyLocation;
+        }
+
+        public void setPublicKeyLocation(Resource publicKeyLocation) {
+            this.publicKeyLocation = publicKeyLocation;
+        }
+    }
+}
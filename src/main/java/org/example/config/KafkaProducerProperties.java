@@ -0,0 +1,35 @@
+package org.example.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for Kafka producer tuning profiles.
+ * A profile is a set of producer properties (linger.ms, batch.size, compression.type, acks, ...)
+ * applied on top of spring.kafka.producer.*; the active profile can be switched at runtime.
+ */
+@Component
+@ConfigurationProperties(prefix = "ltapp.kafka.producer")
+public class KafkaProducerProperties {
+    private String profile = "default";
+    private Map<String, Map<String, String>> profiles = new LinkedHashMap<>();
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public void setProfile(String profile) {
+        this.profile = profile;
+    }
+
+    public Map<String, Map<String, String>> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(Map<String, Map<String, String>> profiles) {
+        this.profiles = profiles;
+    }
+}
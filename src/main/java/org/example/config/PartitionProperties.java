@@ -0,0 +1,58 @@
+package org.example.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for time-range partitioning of the documents table.
+ * Controls how far ahead partitions are created and how long old partitions are kept.
+ */
+@Component
+@ConfigurationProperties(prefix = "ltapp.partition")
+public class PartitionProperties {
+    private boolean enabled = true;
+    private String interval = "DAILY"; // DAILY or WEEKLY
+    private int premake = 7;
+    private int retentionDays = 0; // 0 disables retention
+    private long maintenanceIntervalMs = 3600000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getInterval() {
+        return interval;
+    }
+
+    public void setInterval(String interval) {
+        this.interval = interval;
+    }
+
+    public int getPremake() {
+        return premake;
+    }
+
+    public void setPremake(int premake) {
+        this.premake = premake;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public long getMaintenanceIntervalMs() {
+        return maintenanceIntervalMs;
+    }
+
+    public void setMaintenanceIntervalMs(long maintenanceIntervalMs) {
+        this.maintenanceIntervalMs = maintenanceIntervalMs;
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for password hashing.
+ * New hashes use the selected algorithm; existing hashes of any supported algorithm still match
+ * and are transparently re-hashed on the next successful login.
+ */
+@Component
+@ConfigurationProperties(prefix = "ltapp.auth.password")
+public class PasswordEncoderProperties {
+    private String algorithm = "bcrypt"; // bcrypt, argon2, pbkdf2, scrypt
+    private Bcrypt bcrypt = new Bcrypt();
+    private Argon2 argon2 = new Argon2();
+    private Pbkdf2 pbkdf2 = new Pbkdf2();
+    private Scrypt scrypt = new Scrypt();
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public Bcrypt getBcrypt() {
+        return bcrypt;
+    }
+
+    public void setBcrypt(Bcrypt bcrypt) {
+        this.bcrypt = bcrypt;
+    }
+
+    public Argon2 getArgon2() {
+        return argon2;
+    }
+
+    public void setArgon2(Argon2 argon2) {
+        this.argon2 = argon2;
+    }
+
+    public Pbkdf2 getPbkdf2() {
+        return pbkdf2;
+    }
+
+    public void setPbkdf2(Pbkdf2 pbkdf2) {
+        this.pbkdf2 = pbkdf2;
+    }
+
+    public Scrypt getScrypt() {
+        return scrypt;
+    }
+
+    public void setScrypt(Scrypt scrypt) {
+        this.scrypt = scrypt;
+    }
+
+    public static class Bcrypt {
+        private int strength = 10; // log2 rounds, 4..31
+
+        public int getStrength() {
+            return strength;
+        }
+
+        public void setStrength(int strength) {
+            this.strength = strength;
+        }
+    }
+
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        private int memoryKb = 16384;
+        private int iterations = 2;
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+
+        public int getHashLength() {
+            return hashLength;
+        }
+
+        public void setHashLength(int hashLength) {
+            this.hashLength = hashLength;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getMemoryKb() {
+            return memoryKb;
+        }
+
+        public void setMemoryKb(int memoryKb) {
+            this.memoryKb = memoryKb;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    public static class Pbkdf2 {
+        private int saltLength = 16;
+        private int iterations = 310000;
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    public static class Scrypt {
+        private int cpuCost = 16384; // N, power of two
+        private int memoryCost = 8; // r
+        private int parallelization = 1; // p
+        private int keyLength = 32;
+        private int saltLength = 16;
+
+        public int getCpuCost() {
+            return cpuCost;
+        }
+
+        public void setCpuCost(int cpuCost) {
+            this.cpuCost = cpuCost;
+        }
+
+        public int getMemoryCost() {
+            return memoryCost;
+        }
+
+        public void setMemoryCost(int memoryCost) {
+            this.memoryCost = memoryCost;
+        }
+
+        public int getParallelization() {
+            return parallelization;
+        }
+
+        public void setParallelization(int parallelization) {
+            this.parallelization = parallelization;
+        }
+
+        public int getKeyLength() {
+            return keyLength;
+        }
+
+        public void setKeyLength(int keyLength) {
+            this.keyLength = keyLength;
+        }
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+    }
+}
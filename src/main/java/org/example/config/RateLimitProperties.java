@@ -0,0 +1,122 @@
+package org.example.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for request rate limiting.
+ * Each request is matched against the rules in order; the first matching rule applies.
+ * Requests that match no rule are not limited.
+ */
+@Component
+@ConfigurationProperties(prefix = "ltapp.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = false;
+    private int stripes = 16; // Number of independent bucket maps, rounded up to a power of two
+    private int maxKeys = 100000; // Bucket limit over all stripes; new keys are not limited when full
+    private boolean trustForwardedFor = false; // Use the first X-Forwarded-For address as client IP
+    private List<Rule> rules = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public boolean isTrustForwardedFor() {
+        return trustForwardedFor;
+    }
+
+    public void setTrustForwardedFor(boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Token bucket limit for a set of routes.
+     */
+    public static class Rule {
+        private String name;
+        private List<String> paths = new ArrayList<>(); // Ant-style patterns, e.g. /api/docs/**
+        private List<String> methods = new ArrayList<>(); // Empty matches every method
+        private String key = "USER"; // USER (falls back to IP for anonymous requests) or IP
+        private int capacity = 10; // Burst size
+        private double refillPerSecond = 1; // Sustained rate
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public void setKey(String key) {
+            this.key = key;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -88,16 +88,17 @@ public class AdminDataController {
     }
 
     @Operation(summary = "Generate Kafka messages for datapool",
-               description = "Generates multiple messages and sends them to Kafka. " +
-                           "Returns DatapoolGenerationResponse with createdCount for validation.")
+               description = "Generates multiple messages and sends them to Kafka, optionally from several threads. " +
+                           "Returns DatapoolGenerationResponse with createdCount, throughput and sample payloads.")
     @Timed("generateMessages")
     @PostMapping("/messages")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<DatapoolGenerationResponse>> generateMessages(
             @RequestParam(value = "count") @Min(1) int count,
-            @RequestParam(value = "pattern", defaultValue = "test_message_{index}_{random}") String pattern) {
+            @RequestParam(value = "pattern", defaultValue = "test_message_{index}_{random}") String pattern,
+            @RequestParam(value = "threads", defaultValue = "1") @Min(1) int threads) {
         logger.info("Generating {} messages with pattern: {}", count, pattern);
-        DatapoolGenerationResponse response = adminDataService.generateMessages(count, pattern);
+        DatapoolGenerationResponse response = adminDataService.generateMessages(count, pattern, threads);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
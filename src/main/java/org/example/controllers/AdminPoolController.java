@@ -0,0 +1,55 @@
+package org.example.controllers;
+
+import io.micrometer.core.annotation.Timed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import org.example.dto.ApiResponse;
+import org.example.dto.ConnectionPoolOverviewResponse;
+import org.example.service.ConnectionPoolService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin controller for JDBC connection pool observability.
+ * Pool sizes can be changed at runtime via /api/configurePool.
+ */
+@Tag(name = "Admin Connection Pool", description = "Inspect JDBC connection pools during load tests")
+@RestController
+@RequestMapping("/api/admin/pool")
+@Validated
+@SecurityRequirement(name = "bearerAuth")
+public class AdminPoolController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminPoolController.class);
+
+    private final ConnectionPoolService connectionPoolService;
+
+    @Autowired
+    public AdminPoolController(ConnectionPoolService connectionPoolService) {
+        this.connectionPoolService = connectionPoolService;
+    }
+
+    @Operation(summary = "Get connection pool state",
+               description = "Returns active/idle/pending connections and sizing for every pool, " +
+                           "plus the endpoints that hold connections the longest.")
+    @Timed("getPoolStats")
+    @GetMapping
+    public ResponseEntity<ApiResponse<ConnectionPoolOverviewResponse>> getPoolStats(
+            @RequestParam(value = "limit", defaultValue = "10") @Min(1) int limit) {
+        logger.debug("Getting connection pool stats: limit={}", limit);
+        ConnectionPoolOverviewResponse response = new ConnectionPoolOverviewResponse(
+                connectionPoolService.getPoolStats(),
+                connectionPoolService.getTopConnectionHolders(limit)
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
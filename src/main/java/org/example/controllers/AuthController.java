@@ -3,19 +3,28 @@ package org.example.controllers;
 import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.example.dto.ApiResponse;
 import org.example.dto.AuthResponse;
 import org.example.dto.LoginRequest;
+import org.example.dto.RefreshTokenRequest;
+import org.example.dto.RevokeTokenRequest;
+import org.example.dto.RevokeTokenResponse;
 import org.example.dto.RegisterRequest;
 import org.example.service.AuthService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Controller for authentication operations.
  * Handles user registration and login with JWT token generation.
@@ -65,5 +74,51 @@ public class AuthController {
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-}
 
+    @Operation(summary = "Refresh access token",
+               description = "Issues a new access token and a new refresh token for a valid refresh token. " +
+                           "The presented refresh token is consumed (single use). No password check is involved.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                              description = "Token refreshed successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404",
+                              description = "Refresh token invalid, expired or already used")
+    })
+    @Timed("refreshToken")
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "Revoke tokens (logout)",
+               description = "Revokes the access token from the Authorization header until it expires, " +
+                           "and the refresh token from the body if given.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                              description = "Tokens revoked"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400",
+                              description = "Missing or invalid bearer token")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @Timed("revokeToken")
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse<RevokeTokenResponse>> revoke(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RevokeTokenRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        RevokeTokenResponse response = authService.revoke(accessToken, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "JSON Web Key Set",
+               description = "Public keys for verifying access tokens (RFC 7517). Empty when tokens are HMAC-signed.")
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        // Plain JWKS document (no ApiResponse wrapper), as expected by JWT libraries and gateways
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(authService.getJwks());
+    }
+}
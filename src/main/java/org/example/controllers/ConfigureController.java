@@ -3,6 +3,10 @@ package org.example.controllers;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import org.example.dto.ApiResponse;
+import org.example.dto.ConnectionPoolStatsResponse;
+import org.example.dto.KafkaProducerProfileResponse;
+import org.example.service.ConnectionPoolService;
+import org.example.service.KafkaProducerProfileService;
 import org.example.service.LoadControlService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,9 +15,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,10 +35,15 @@ public class ConfigureController {
     private static final Logger logger = LoggerFactory.getLogger(ConfigureController.class);
 
     private final LoadControlService loadControlService;
+    private final ConnectionPoolService connectionPoolService;
+    private final KafkaProducerProfileService kafkaProducerProfileService;
 
     @Autowired
-    public ConfigureController(LoadControlService loadControlService) {
+    public ConfigureController(LoadControlService loadControlService, ConnectionPoolService connectionPoolService,
+                               KafkaProducerProfileService kafkaProducerProfileService) {
         this.loadControlService = loadControlService;
+        this.connectionPoolService = connectionPoolService;
+        this.kafkaProducerProfileService = kafkaProducerProfileService;
     }
 
     @Operation(summary = "Enable memory leak", description = "Starts memory leak process for load testing")
@@ -78,4 +89,32 @@ public class ConfigureController {
         data.put("status", "CPU load Disabled");
         return ResponseEntity.ok(ApiResponse.success(data));
     }
+
+    @Operation(summary = "Resize connection pool",
+               description = "Changes maximumPoolSize and/or minimumIdle of a pool (or all pools) at runtime")
+    @GetMapping(path = "/configurePool")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<ConnectionPoolStatsResponse>>> configurePool(
+            @RequestParam(value = "pool", required = false) String pool,
+            @RequestParam(value = "maximumPoolSize", required = false) Integer maximumPoolSize,
+            @RequestParam(value = "minimumIdle", required = false) Integer minimumIdle) {
+        logger.info("Connection pool resize via API: pool={}, maximumPoolSize={}, minimumIdle={}",
+                pool != null ? pool : "all", maximumPoolSize, minimumIdle);
+        List<ConnectionPoolStatsResponse> pools = connectionPoolService.resizePool(pool, maximumPoolSize, minimumIdle);
+        return ResponseEntity.ok(ApiResponse.success(pools));
+    }
+
+    @Operation(summary = "Kafka producer profile",
+               description = "Shows the active producer profile and producer metrics; with profile=<name> switches " +
+                           "to default, latency, throughput or durable at runtime")
+    @GetMapping(path = "/configureKafkaProducer")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<KafkaProducerProfileResponse>> configureKafkaProducer(
+            @RequestParam(value = "profile", required = false) String profile) {
+        if (profile == null) {
+            return ResponseEntity.ok(ApiResponse.success(kafkaProducerProfileService.getProfile()));
+        }
+        logger.info("Kafka producer profile switch via API: profile={}", profile);
+        return ResponseEntity.ok(ApiResponse.success(kafkaProducerProfileService.switchProfile(profile)));
+    }
 }
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import org.example.dto.*;
@@ -81,6 +82,32 @@ public class DocsController {
         return ResponseEntity.ok(ApiResponse.success(doc));
     }
 
+    @Operation(summary = "Get document statistics",
+               description = "Returns total documents, total bytes, counts per status and top uploaders. " +
+                           "Served from incrementally maintained counters, cheap enough for dashboard polling.")
+    @Timed("getDocStats")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<DocStatsResponse>> getDocumentStats() {
+        logger.debug("Getting document statistics");
+        DocStatsResponse stats = docService.getDocumentStats();
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    @Operation(summary = "List my documents",
+               description = "Documents uploaded by the current user, newest first. Keyset pagination: " +
+                           "pass nextCursor from the previous response as cursor to get the next page.")
+    @Timed("listMyDocs")
+    @GetMapping("/mine")
+    public ResponseEntity<ApiResponse<CursorPageDto<DocSummary>>> listMyDocuments(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) int size,
+            Authentication authentication) {
+        String uploadedBy = authentication != null ? authentication.getName() : "anonymous";
+        logger.debug("Listing documents: uploadedBy={}, size={}", uploadedBy, size);
+        CursorPageDto<DocSummary> result = docService.listDocumentsByUploader(uploadedBy, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     @Operation(summary = "Search documents with pagination",
                description = "Search documents by name with pagination. Returns PageDto for validation.")
     @Timed("searchDocs")
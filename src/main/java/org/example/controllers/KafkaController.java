@@ -1,23 +1,36 @@
 package org.example.controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import org.example.dto.ApiResponse;
+import org.example.dto.KafkaBatchResponse;
 import org.example.dto.KafkaMessageResponse;
 import org.example.dto.SendMessageRequest;
 import org.example.service.KafkaMessageService;
+import org.example.service.KafkaMessageStreamService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for Kafka message operations.
@@ -32,10 +45,15 @@ public class KafkaController {
     private static final Logger logger = LoggerFactory.getLogger(KafkaController.class);
 
     private final KafkaMessageService kafkaMessageService;
+    private final KafkaMessageStreamService kafkaMessageStreamService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public KafkaController(KafkaMessageService kafkaMessageService) {
+    public KafkaController(KafkaMessageService kafkaMessageService,
+                           KafkaMessageStreamService kafkaMessageStreamService, ObjectMapper objectMapper) {
         this.kafkaMessageService = kafkaMessageService;
+        this.kafkaMessageStreamService = kafkaMessageStreamService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Send message to Kafka (POST)",
@@ -55,6 +73,46 @@ public class KafkaController {
         return ResponseEntity.accepted().body(ApiResponse.success(response));
     }
 
+    @Operation(summary = "Send message to Kafka and wait for acknowledgement",
+               description = "Like POST /api/messages, but responds only after the broker has acknowledged the " +
+                           "message, with partition and offset. The request thread is released while waiting.")
+    @Timed("sendMessageAck")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                              description = "Message acknowledged by the broker"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400",
+                              description = "Validation error"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503",
+                              description = "Send failed or was not acknowledged in time")
+    })
+    @PostMapping(value = "/messages", params = "ack=true")
+    public CompletableFuture<ResponseEntity<ApiResponse<KafkaMessageResponse>>> sendMessageAcknowledged(
+            @Valid @RequestBody SendMessageRequest request) {
+        logger.debug("Sending message to Kafka with ack: length={}", request.getPayload().length());
+        return kafkaMessageService.sendMessageAcknowledged(request.getPayload())
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
+    }
+
+    @Operation(summary = "Send a batch of messages to Kafka",
+               description = "Accepts a JSON array ([{\"payload\": \"...\"}, ...] or [\"...\", ...]) or NDJSON " +
+                           "(application/x-ndjson, one message object per line). The body is read completely before " +
+                           "the first send, so a malformed or too large batch sends nothing. The response lists " +
+                           "the result of every message once all are acknowledged.")
+    @Timed("sendMessageBatch")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                              description = "Batch processed, see per-message results"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400",
+                              description = "Malformed body or batch too large")
+    })
+    @PostMapping(value = "/messages:batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public CompletableFuture<ResponseEntity<ApiResponse<KafkaBatchResponse>>> sendMessageBatch(
+            HttpServletRequest request) throws IOException {
+        MappingIterator<SendMessageRequest> messages = objectMapper.readerFor(SendMessageRequest.class)
+                .readValues(request.getInputStream());
+        return kafkaMessageService.sendBatch(new PayloadIterator(messages))
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
+    }
 
     @Operation(summary = "Get random message from queue",
                description = "Retrieves a random message from the internal Kafka message queue")
@@ -72,6 +130,29 @@ public class KafkaController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "Wait for the next message from queue",
+               description = "Long-poll variant of GET /api/getMessage: if the queue is empty, waits up to waitMs " +
+                           "for the next consumed message instead of answering 404 immediately. Waiting requests " +
+                           "do not hold a request thread.")
+    @Timed("getMessageWait")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                              description = "Message retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400",
+                              description = "waitMs out of range"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404",
+                              description = "No message arrived within waitMs"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503",
+                              description = "Too many waiting requests")
+    })
+    @GetMapping(value = "/getMessage", params = "waitMs")
+    public DeferredResult<ResponseEntity<ApiResponse<KafkaMessageResponse>>> awaitMessage(
+            @RequestParam(value = "waitMs") long waitMs) {
+        logger.debug("Waiting up to {} ms for a message from queue", waitMs);
+        return kafkaMessageService.awaitNextMessage(waitMs,
+                response -> ResponseEntity.ok(ApiResponse.success(response)));
+    }
+
     @Operation(summary = "Get random message (alternative endpoint)",
                description = "Alternative endpoint for getting random messages")
     @Timed("getMessage")
@@ -81,6 +162,38 @@ public class KafkaController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "Stream consumed messages",
+               description = "Delivers consumed messages over one long-lived connection, as Server-Sent Events " +
+                           "(default, event \"message\" with {\"sequence\", \"payload\"} data) or as NDJSON " +
+                           "(format=ndjson or Accept: application/x-ndjson). Streamed messages are removed from the " +
+                           "queue. The stream ends after limit messages, or when the client reads too slowly.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                              description = "Stream opened"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503",
+                              description = "Too many stream clients")
+    })
+    @GetMapping("/messages/stream")
+    public ResponseEntity<ResponseBodyEmitter> streamMessages(
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "limit", defaultValue = "0") long limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean ndjson = format != null
+                ? "ndjson".equalsIgnoreCase(format)
+                : accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        if (format != null && !ndjson && !"sse".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("format must be sse or ndjson");
+        }
+        if (ndjson) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(kafkaMessageStreamService.subscribe(KafkaMessageStreamService.StreamFormat.NDJSON, limit));
+        }
+        // SseEmitter sets text/event-stream itself
+        return ResponseEntity.ok()
+                .body(kafkaMessageStreamService.subscribe(KafkaMessageStreamService.StreamFormat.SSE, limit));
+    }
+
     @Operation(summary = "Get queue size",
                description = "Returns the current number of messages in the internal queue")
     @Timed("getQueueSize")
@@ -102,4 +215,41 @@ public class KafkaController {
         org.example.dto.KafkaStatsResponse stats = kafkaMessageService.getStats();
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
+
+    /**
+     * Reads payloads from the streamed request body, reporting malformed input as a client error.
+     */
+    private static class PayloadIterator implements Iterator<String> {
+        private final MappingIterator<SendMessageRequest> messages;
+        private int index;
+
+        PayloadIterator(MappingIterator<SendMessageRequest> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return messages.hasNextValue();
+            } catch (IOException e) {
+                throw invalidBody(e);
+            }
+        }
+
+        @Override
+        public String next() {
+            try {
+                SendMessageRequest message = messages.nextValue();
+                index++;
+                return message != null ? message.getPayload() : null;
+            } catch (IOException e) {
+                throw invalidBody(e);
+            }
+        }
+
+        private IllegalArgumentException invalidBody(IOException e) {
+            String reason = e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage();
+            return new IllegalArgumentException("Invalid batch body at message " + index + ": " + reason, e);
+        }
+    }
 }
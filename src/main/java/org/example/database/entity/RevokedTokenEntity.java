@@ -0,0 +1,63 @@
+package org.example.database.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Revoked access token, identified by its jti claim. Kept until the token expires.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedTokenEntity {
+
+    @Id
+    @Column(name = "jti", nullable = false, length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private Instant revokedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (revokedAt == null) {
+            revokedAt = Instant.now();
+        }
+    }
+
+    public RevokedTokenEntity() {
+    }
+
+    public RevokedTokenEntity(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
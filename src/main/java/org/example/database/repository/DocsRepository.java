@@ -2,13 +2,43 @@ package org.example.database.repository;
 
 import io.micrometer.core.annotation.Timed;
 import org.example.database.entity.DocEntity;
+import org.example.dto.DocSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface DocsRepository extends CrudRepository<DocEntity, Integer> {
     @Timed("findDoc")
     List<DocEntity> findByName(String name);
+
+    /**
+     * First page of a user's documents, newest first.
+     * Served by idx_documents_uploaded_by_created_at as an index-only scan.
+     */
+    @Timed("findDocsByUploader")
+    @Query("SELECT new org.example.dto.DocSummary(d.id, d.name, d.status, d.version, d.createdAt) " +
+           "FROM DocEntity d WHERE d.uploadedBy = :uploadedBy " +
+           "ORDER BY d.createdAt DESC, d.id ASC")
+    List<DocSummary> findSummariesByUploader(@Param("uploadedBy") String uploadedBy, Limit limit);
+
+    /**
+     * Next page of a user's documents after the (createdAt, id) position of the previous page.
+     * The redundant createdAt bound turns the range into an index condition instead of a filter.
+     */
+    @Timed("findDocsByUploader")
+    @Query("SELECT new org.example.dto.DocSummary(d.id, d.name, d.status, d.version, d.createdAt) " +
+           "FROM DocEntity d WHERE d.uploadedBy = :uploadedBy " +
+           "AND d.createdAt <= :createdAt " +
+           "AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id > :id)) " +
+           "ORDER BY d.createdAt DESC, d.id ASC")
+    List<DocSummary> findSummariesByUploaderAfter(@Param("uploadedBy") String uploadedBy,
+                                                   @Param("createdAt") Instant createdAt,
+                                                   @Param("id") Integer id,
+                                                   Limit limit);
 }
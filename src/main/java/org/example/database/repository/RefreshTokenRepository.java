@@ -0,0 +1,34 @@
+package org.example.database.repository;
+
+import org.example.database.entity.RefreshTokenEntity;
+import org.example.database.entity.UserEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository for refresh tokens.
+ */
+@Repository
+public interface RefreshTokenRepository extends CrudRepository<RefreshTokenEntity, Long> {
+
+    /**
+     * Owner of a refresh token that has not expired yet.
+     */
+    @Query("SELECT u FROM RefreshTokenEntity r, UserEntity u " +
+           "WHERE u.id = r.userId AND r.tokenHash = :tokenHash AND r.expiresAt > :now")
+    Optional<UserEntity> findUserByValidToken(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,8 +1,12 @@
 package org.example.database.repository;
 
 import org.example.database.entity.UserEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -11,9 +15,15 @@ import java.util.Optional;
  */
 @Repository
 public interface UserRepository extends CrudRepository<UserEntity, Integer> {
+    @Transactional(readOnly = true) // Login lookups can be served by a read replica
     Optional<UserEntity> findByUsername(String username);
     Optional<UserEntity> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.passwordHash = :passwordHash WHERE u.id = :id")
+    int updatePasswordHash(@Param("id") Integer id, @Param("passwordHash") String passwordHash);
 }
 
@@ -0,0 +1,94 @@
+package org.example.database.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.config.ReplicaProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource configuration with read-replica routing.
+ * Only active when ltapp.datasource.replicas.urls is set; otherwise Spring Boot's
+ * single auto-configured DataSource is used unchanged.
+ */
+@Configuration
+@ConditionalOnExpression("!'${ltapp.datasource.replicas.urls:}'.trim().isEmpty()")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    /**
+     * Primary (read-write) pool, configured from spring.datasource.*.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ReplicaProperties replicaProperties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            String url = urls.get(i).trim();
+            if (url.isEmpty()) {
+                continue;
+            }
+            String name = "replica-" + i;
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaProperties.getUsername() != null
+                    ? replicaProperties.getUsername() : properties.determineUsername());
+            replica.setPassword(replicaProperties.getPassword() != null
+                    ? replicaProperties.getPassword() : properties.determinePassword());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            // Short timeout, so a dead replica fails fast instead of stalling reads until the health check
+            replica.setConnectionTimeout(replicaProperties.getConnectionTimeoutMs());
+            replica.setReadOnly(true);
+            // Don't fail startup when a replica is down, the health check takes it out of rotation
+            replica.setInitializationFailTimeout(-1);
+            // Replica pools are not beans, so bind the hikaricp.* metrics explicitly
+            meterRegistry.ifAvailable(registry ->
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(name, replica);
+            logger.info("Configured read replica: name={}, url={}", name, url);
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                replicaProperties.getHealthCheckTimeoutSeconds());
+    }
+
+    /**
+     * Application-wide DataSource. The lazy proxy defers fetching the physical connection until
+     * the first statement, when the transaction's read-only flag is already bound.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.database.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routing DataSource that sends read-only transactions to replicas and everything else to the primary.
+ * Replicas are picked round-robin among the ones that passed the last health check;
+ * when no replica is healthy, reads fall back to the primary.
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy, so the read-only flag of the
+ * transaction is already known when the physical connection is fetched.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public static final String PRIMARY_KEY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> healthyReplicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    int healthCheckTimeoutSeconds) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        this.healthyReplicas = List.copyOf(this.replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY_KEY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY_KEY;
+        }
+
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+        int index = Math.floorMod(nextReplica.getAndIncrement(), candidates.size());
+        return candidates.get(index);
+    }
+
+    /**
+     * Validate a connection to every replica and refresh the set used for routing.
+     */
+    @Scheduled(fixedDelayString = "${ltapp.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        List<String> healthy = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            boolean valid;
+            try (Connection connection = replica.getValue().getConnection()) {
+                valid = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (Exception e) {
+                logger.debug("Replica health check failed: replica={}, error={}", replica.getKey(), e.getMessage());
+                valid = false;
+            }
+
+            boolean wasHealthy = healthyReplicas.contains(replica.getKey());
+            if (valid != wasHealthy) {
+                logger.warn("Replica {} is now {}", replica.getKey(), valid ? "UP" : "DOWN");
+            }
+            if (valid) {
+                healthy.add(replica.getKey());
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    /**
+     * Names of the replicas currently used for read-only work.
+     */
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    /**
+     * All configured replica pools, keyed by name.
+     */
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Close replica pools on shutdown (picked up as the inferred destroy method of the bean).
+     */
+    public void close() {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Failed to close replica pool: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Response DTO for authentication operations.
  * Contains JWT token and user information.
@@ -10,6 +12,11 @@ public class AuthResponse {
     private Long expiresIn;
     private String username;
     private String role;
+    // Only set when a refresh token was requested
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String refreshToken;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long refreshExpiresIn;
 
     public AuthResponse() {
     }
@@ -21,6 +28,13 @@ public class AuthResponse {
         this.role = role;
     }
 
+    public AuthResponse(String accessToken, Long expiresIn, String username, String role,
+                        String refreshToken, Long refreshExpiresIn) {
+        this(accessToken, expiresIn, username, role);
+        this.refreshToken = refreshToken;
+        this.refreshExpiresIn = refreshExpiresIn;
+    }
+
     // Getters and Setters
     public String getAccessToken() {
         return accessToken;
@@ -61,5 +75,20 @@ public class AuthResponse {
     public void setRole(String role) {
         this.role = role;
     }
-}
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public Long getRefreshExpiresIn() {
+        return refreshExpiresIn;
+    }
+
+    public void setRefreshExpiresIn(Long refreshExpiresIn) {
+        this.refreshExpiresIn = refreshExpiresIn;
+    }
+}
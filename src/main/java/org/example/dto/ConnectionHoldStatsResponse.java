@@ -0,0 +1,66 @@
+package org.example.dto;
+
+/**
+ * Response DTO for connection hold time of one HTTP endpoint.
+ * Helps finding the endpoints that keep JDBC connections the longest.
+ */
+public class ConnectionHoldStatsResponse {
+    private String endpoint;
+    private Long count;
+    private Double totalTimeMs;
+    private Double meanTimeMs;
+    private Double maxTimeMs;
+
+    public ConnectionHoldStatsResponse() {
+    }
+
+    public ConnectionHoldStatsResponse(String endpoint, Long count, Double totalTimeMs,
+                                       Double meanTimeMs, Double maxTimeMs) {
+        this.endpoint = endpoint;
+        this.count = count;
+        this.totalTimeMs = totalTimeMs;
+        this.meanTimeMs = meanTimeMs;
+        this.maxTimeMs = maxTimeMs;
+    }
+
+    // Getters and Setters
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Double getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(Double totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+
+    public Double getMeanTimeMs() {
+        return meanTimeMs;
+    }
+
+    public void setMeanTimeMs(Double meanTimeMs) {
+        this.meanTimeMs = meanTimeMs;
+    }
+
+    public Double getMaxTimeMs() {
+        return maxTimeMs;
+    }
+
+    public void setMaxTimeMs(Double maxTimeMs) {
+        this.maxTimeMs = maxTimeMs;
+    }
+}
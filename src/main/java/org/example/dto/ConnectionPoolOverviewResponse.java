@@ -0,0 +1,38 @@
+package org.example.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for the connection pool admin endpoint.
+ * Combines pool state with the endpoints holding connections longest.
+ */
+public class ConnectionPoolOverviewResponse {
+    private List<ConnectionPoolStatsResponse> pools;
+    private List<ConnectionHoldStatsResponse> topHolders;
+
+    public ConnectionPoolOverviewResponse() {
+    }
+
+    public ConnectionPoolOverviewResponse(List<ConnectionPoolStatsResponse> pools,
+                                          List<ConnectionHoldStatsResponse> topHolders) {
+        this.pools = pools;
+        this.topHolders = topHolders;
+    }
+
+    // Getters and Setters
+    public List<ConnectionPoolStatsResponse> getPools() {
+        return pools;
+    }
+
+    public void setPools(List<ConnectionPoolStatsResponse> pools) {
+        this.pools = pools;
+    }
+
+    public List<ConnectionHoldStatsResponse> getTopHolders() {
+        return topHolders;
+    }
+
+    public void setTopHolders(List<ConnectionHoldStatsResponse> topHolders) {
+        this.topHolders = topHolders;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.dto;
+
+/**
+ * Response DTO for a single JDBC connection pool.
+ * Shows live pool usage and sizing so pool exhaustion can be diagnosed during a test.
+ */
+public class ConnectionPoolStatsResponse {
+    private String poolName;
+    private Integer activeConnections;
+    private Integer idleConnections;
+    private Integer totalConnections;
+    private Integer threadsAwaitingConnection;
+    private Integer maximumPoolSize;
+    private Integer minimumIdle;
+    private Long connectionTimeoutMs;
+
+    public ConnectionPoolStatsResponse() {
+    }
+
+    public ConnectionPoolStatsResponse(String poolName, Integer activeConnections,
+                                       Integer idleConnections, Integer totalConnections,
+                                       Integer threadsAwaitingConnection, Integer maximumPoolSize,
+                                       Integer minimumIdle, Long connectionTimeoutMs) {
+        this.poolName = poolName;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.maximumPoolSize = maximumPoolSize;
+        this.minimumIdle = minimumIdle;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    // Getters and Setters
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public void setPoolName(String poolName) {
+        this.poolName = poolName;
+    }
+
+    public Integer getActiveConnections() {
+        return activeConnections;
+    }
+
+    public void setActiveConnections(Integer activeConnections) {
+        this.activeConnections = activeConnections;
+    }
+
+    public Integer getIdleConnections() {
+        return idleConnections;
+    }
+
+    public void setIdleConnections(Integer idleConnections) {
+        this.idleConnections = idleConnections;
+    }
+
+    public Integer getTotalConnections() {
+        return totalConnections;
+    }
+
+    public void setTotalConnections(Integer totalConnections) {
+        this.totalConnections = totalConnections;
+    }
+
+    public Integer getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+
+    public void setThreadsAwaitingConnection(Integer threadsAwaitingConnection) {
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+
+    public Integer getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(Integer maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public Integer getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public void setMinimumIdle(Integer minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    public Long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public void setConnectionTimeoutMs(Long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+}
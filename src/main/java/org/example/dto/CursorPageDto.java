@@ -0,0 +1,57 @@
+package org.example.dto;
+
+import java.util.List;
+
+/**
+ * Keyset (cursor) pagination DTO.
+ * Pass nextCursor back as the cursor parameter to get the next page; it is null on the last page.
+ */
+public class CursorPageDto<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public CursorPageDto() {
+    }
+
+    public CursorPageDto(List<T> content, int size, String nextCursor, boolean hasMore) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
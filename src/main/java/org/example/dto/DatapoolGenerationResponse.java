@@ -1,5 +1,7 @@
 package org.example.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
@@ -12,6 +14,15 @@ public class DatapoolGenerationResponse {
     private Integer createdCount;
     private String namePrefix;
     private List<Integer> sampleIds; // Sample of generated IDs
+    // Set by streamed generators (messages)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer failedCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long durationMs;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double perSecond;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> samplePayloads;
 
     public DatapoolGenerationResponse() {
     }
@@ -65,5 +76,36 @@ public class DatapoolGenerationResponse {
     public void setSampleIds(List<Integer> sampleIds) {
         this.sampleIds = sampleIds;
     }
-}
 
+    public Integer getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(Integer failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public Double getPerSecond() {
+        return perSecond;
+    }
+
+    public void setPerSecond(Double perSecond) {
+        this.perSecond = perSecond;
+    }
+
+    public List<String> getSamplePayloads() {
+        return samplePayloads;
+    }
+
+    public void setSamplePayloads(List<String> samplePayloads) {
+        this.samplePayloads = samplePayloads;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for aggregated document statistics.
+ * Served from in-memory counters, so dashboards can poll it without scanning the documents table.
+ */
+public class DocStatsResponse {
+    private Long totalDocuments;
+    private Long totalBytes;
+    private Map<String, Long> byStatus; // UPLOADED, SIGNED
+    private List<UploaderStatsResponse> topUploaders;
+    private Instant reconciledAt; // Last time counters were reconciled with the database
+
+    public DocStatsResponse() {
+    }
+
+    public DocStatsResponse(Long totalDocuments, Long totalBytes, Map<String, Long> byStatus,
+                            List<UploaderStatsResponse> topUploaders, Instant reconciledAt) {
+        this.totalDocuments = totalDocuments;
+        this.totalBytes = totalBytes;
+        this.byStatus = byStatus;
+        this.topUploaders = topUploaders;
+        this.reconciledAt = reconciledAt;
+    }
+
+    // Getters and Setters
+    public Long getTotalDocuments() {
+        return totalDocuments;
+    }
+
+    public void setTotalDocuments(Long totalDocuments) {
+        this.totalDocuments = totalDocuments;
+    }
+
+    public Long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void setTotalBytes(Long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public List<UploaderStatsResponse> getTopUploaders() {
+        return topUploaders;
+    }
+
+    public void setTopUploaders(List<UploaderStatsResponse> topUploaders) {
+        this.topUploaders = topUploaders;
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(Instant reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
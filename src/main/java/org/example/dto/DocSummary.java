@@ -0,0 +1,67 @@
+package org.example.dto;
+
+import java.time.Instant;
+
+/**
+ * Lightweight document listing item.
+ * Contains only columns of the covering index, so it never loads document content.
+ */
+public class DocSummary {
+    private Integer id;
+    private String name;
+    private String status;
+    private Integer version;
+    private Instant createdAt;
+
+    public DocSummary() {
+    }
+
+    public DocSummary(Integer id, String name, String status, Integer version, Instant createdAt) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.version = version;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
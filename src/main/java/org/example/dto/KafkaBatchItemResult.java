@@ -0,0 +1,78 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Result of a single message of a batch send.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KafkaBatchItemResult {
+    private Integer index;
+    private String messageId;
+    private String status; // ACKNOWLEDGED or FAILED
+    private Integer partition;
+    private Long offset;
+    private String error;
+
+    public KafkaBatchItemResult() {
+    }
+
+    public KafkaBatchItemResult(Integer index, String messageId, String status,
+                                Integer partition, Long offset, String error) {
+        this.index = index;
+        this.messageId = messageId;
+        this.status = status;
+        this.partition = partition;
+        this.offset = offset;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public Integer getIndex() {
+        return index;
+    }
+
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    public String getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(String messageId) {
+        this.messageId = messageId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getPartition() {
+        return partition;
+    }
+
+    public void setPartition(Integer partition) {
+        this.partition = partition;
+    }
+
+    public Long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(Long offset) {
+        this.offset = offset;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
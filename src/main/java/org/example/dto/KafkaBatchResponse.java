@@ -0,0 +1,77 @@
+package org.example.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for batch message sends.
+ */
+public class KafkaBatchResponse {
+    private Integer total;
+    private Integer acknowledged;
+    private Integer failed;
+    private String topic;
+    private Long durationMs;
+    private List<KafkaBatchItemResult> results;
+
+    public KafkaBatchResponse() {
+    }
+
+    public KafkaBatchResponse(Integer total, Integer acknowledged, Integer failed, String topic,
+                              Long durationMs, List<KafkaBatchItemResult> results) {
+        this.total = total;
+        this.acknowledged = acknowledged;
+        this.failed = failed;
+        this.topic = topic;
+        this.durationMs = durationMs;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    public Integer getAcknowledged() {
+        return acknowledged;
+    }
+
+    public void setAcknowledged(Integer acknowledged) {
+        this.acknowledged = acknowledged;
+    }
+
+    public Integer getFailed() {
+        return failed;
+    }
+
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public List<KafkaBatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<KafkaBatchItemResult> results) {
+        this.results = results;
+    }
+}
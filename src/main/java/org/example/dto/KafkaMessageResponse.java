@@ -1,5 +1,7 @@
 package org.example.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 
 /**
@@ -13,6 +15,11 @@ public class KafkaMessageResponse {
     private String status;
     private String topic;
     private Instant sentAt;
+    // Only set once the broker has acknowledged the message
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer partition;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long offset;
 
     public KafkaMessageResponse() {
     }
@@ -27,6 +34,13 @@ public class KafkaMessageResponse {
         this.sentAt = sentAt;
     }
 
+    public KafkaMessageResponse(String messageId, String payload, Integer payloadLength,
+                               String status, String topic, Instant sentAt, Integer partition, Long offset) {
+        this(messageId, payload, payloadLength, status, topic, sentAt);
+        this.partition = partition;
+        this.offset = offset;
+    }
+
     // Getters and Setters
     public String getMessageId() {
         return messageId;
@@ -75,5 +89,20 @@ public class KafkaMessageResponse {
     public void setSentAt(Instant sentAt) {
         this.sentAt = sentAt;
     }
-}
 
+    public Integer getPartition() {
+        return partition;
+    }
+
+    public void setPartition(Integer partition) {
+        this.partition = partition;
+    }
+
+    public Long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(Long offset) {
+        this.offset = offset;
+    }
+}
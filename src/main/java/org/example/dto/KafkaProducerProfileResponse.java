@@ -0,0 +1,58 @@
+package org.example.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for the Kafka producer profile.
+ */
+public class KafkaProducerProfileResponse {
+    private String activeProfile;
+    private List<String> availableProfiles;
+    private Map<String, String> settings;
+    private Map<String, Double> metrics;
+
+    public KafkaProducerProfileResponse() {
+    }
+
+    public KafkaProducerProfileResponse(String activeProfile, List<String> availableProfiles,
+                                        Map<String, String> settings, Map<String, Double> metrics) {
+        this.activeProfile = activeProfile;
+        this.availableProfiles = availableProfiles;
+        this.settings = settings;
+        this.metrics = metrics;
+    }
+
+    // Getters and Setters
+    public String getActiveProfile() {
+        return activeProfile;
+    }
+
+    public void setActiveProfile(String activeProfile) {
+        this.activeProfile = activeProfile;
+    }
+
+    public List<String> getAvailableProfiles() {
+        return availableProfiles;
+    }
+
+    public void setAvailableProfiles(List<String> availableProfiles) {
+        this.availableProfiles = availableProfiles;
+    }
+
+    public Map<String, String> getSettings() {
+        return settings;
+    }
+
+    public void setSettings(Map<String, String> settings) {
+        this.settings = settings;
+    }
+
+    public Map<String, Double> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Map<String, Double> metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -11,6 +11,11 @@ public class KafkaStatsResponse {
     private Long totalConsumed;
     private Integer currentQueueSize;
     private Instant lastMessageTimestamp;
+    private Long totalFailed;
+    private Long totalDropped;
+    private Double sentPerSecond;
+    private Double consumedPerSecond;
+    private Long consumerLagMs;
 
     public KafkaStatsResponse() {
     }
@@ -22,6 +27,17 @@ public class KafkaStatsResponse {
         this.lastMessageTimestamp = lastMessageTimestamp;
     }
 
+    public KafkaStatsResponse(Long totalSent, Long totalConsumed, Integer currentQueueSize, Instant lastMessageTimestamp,
+                              Long totalFailed, Long totalDropped, Double sentPerSecond, Double consumedPerSecond,
+                              Long consumerLagMs) {
+        this(totalSent, totalConsumed, currentQueueSize, lastMessageTimestamp);
+        this.totalFailed = totalFailed;
+        this.totalDropped = totalDropped;
+        this.sentPerSecond = sentPerSecond;
+        this.consumedPerSecond = consumedPerSecond;
+        this.consumerLagMs = consumerLagMs;
+    }
+
     // Getters and Setters
     public Long getTotalSent() {
         return totalSent;
@@ -54,5 +70,44 @@ public class KafkaStatsResponse {
     public void setLastMessageTimestamp(Instant lastMessageTimestamp) {
         this.lastMessageTimestamp = lastMessageTimestamp;
     }
-}
 
+    public Long getTotalFailed() {
+        return totalFailed;
+    }
+
+    public void setTotalFailed(Long totalFailed) {
+        this.totalFailed = totalFailed;
+    }
+
+    public Long getTotalDropped() {
+        return totalDropped;
+    }
+
+    public void setTotalDropped(Long totalDropped) {
+        this.totalDropped = totalDropped;
+    }
+
+    public Double getSentPerSecond() {
+        return sentPerSecond;
+    }
+
+    public void setSentPerSecond(Double sentPerSecond) {
+        this.sentPerSecond = sentPerSecond;
+    }
+
+    public Double getConsumedPerSecond() {
+        return consumedPerSecond;
+    }
+
+    public void setConsumedPerSecond(Double consumedPerSecond) {
+        this.consumedPerSecond = consumedPerSecond;
+    }
+
+    public Long getConsumerLagMs() {
+        return consumerLagMs;
+    }
+
+    public void setConsumerLagMs(Long consumerLagMs) {
+        this.consumerLagMs = consumerLagMs;
+    }
+}
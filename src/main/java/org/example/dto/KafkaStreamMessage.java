@@ -0,0 +1,34 @@
+package org.example.dto;
+
+/**
+ * A consumed message as delivered by GET /api/messages/stream.
+ */
+public class KafkaStreamMessage {
+    private Long sequence; // Position in this stream, starting at 1
+    private String payload;
+
+    public KafkaStreamMessage() {
+    }
+
+    public KafkaStreamMessage(Long sequence, String payload) {
+        this.sequence = sequence;
+        this.payload = payload;
+    }
+
+    // Getters and Setters
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+}
@@ -12,6 +12,9 @@ public class LoginRequest {
     @NotBlank(message = "Password is required")
     private String password;
 
+    // Opt-in, a refresh token costs an INSERT into refresh_tokens
+    private boolean issueRefreshToken;
+
     public LoginRequest() {
     }
 
@@ -36,5 +39,12 @@ public class LoginRequest {
     public void setPassword(String password) {
         this.password = password;
     }
-}
 
+    public boolean isIssueRefreshToken() {
+        return issueRefreshToken;
+    }
+
+    public void setIssueRefreshToken(boolean issueRefreshToken) {
+        this.issueRefreshToken = issueRefreshToken;
+    }
+}
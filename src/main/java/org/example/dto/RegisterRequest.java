@@ -16,6 +16,9 @@ public class RegisterRequest {
     @Size(min = 6, message = "Password must be at least 6 characters")
     private String password;
 
+    // Opt-in, a refresh token costs an INSERT into refresh_tokens
+    private boolean issueRefreshToken;
+
     @Email(message = "Email should be valid")
     @NotBlank(message = "Email is required")
     private String email;
@@ -53,5 +56,12 @@ public class RegisterRequest {
     public void setEmail(String email) {
         this.email = email;
     }
-}
 
+    public boolean isIssueRefreshToken() {
+        return issueRefreshToken;
+    }
+
+    public void setIssueRefreshToken(boolean issueRefreshToken) {
+        this.issueRefreshToken = issueRefreshToken;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.dto;
+
+/**
+ * Request DTO for token revocation (logout).
+ * The access token is taken from the Authorization header; the refresh token is optional.
+ */
+public class RevokeTokenRequest {
+    private String refreshToken;
+
+    public RevokeTokenRequest() {
+    }
+
+    public RevokeTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // Getters and Setters
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
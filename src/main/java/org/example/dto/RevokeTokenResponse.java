@@ -0,0 +1,44 @@
+package org.example.dto;
+
+/**
+ * Response DTO for token revocation.
+ */
+public class RevokeTokenResponse {
+    private String tokenId;
+    private Boolean accessTokenRevoked;
+    private Boolean refreshTokenRevoked;
+
+    public RevokeTokenResponse() {
+    }
+
+    public RevokeTokenResponse(String tokenId, Boolean accessTokenRevoked, Boolean refreshTokenRevoked) {
+        this.tokenId = tokenId;
+        this.accessTokenRevoked = accessTokenRevoked;
+        this.refreshTokenRevoked = refreshTokenRevoked;
+    }
+
+    // Getters and Setters
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public Boolean getAccessTokenRevoked() {
+        return accessTokenRevoked;
+    }
+
+    public void setAccessTokenRevoked(Boolean accessTokenRevoked) {
+        this.accessTokenRevoked = accessTokenRevoked;
+    }
+
+    public Boolean getRefreshTokenRevoked() {
+        return refreshTokenRevoked;
+    }
+
+    public void setRefreshTokenRevoked(Boolean refreshTokenRevoked) {
+        this.refreshTokenRevoked = refreshTokenRevoked;
+    }
+}
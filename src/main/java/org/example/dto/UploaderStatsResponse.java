@@ -0,0 +1,44 @@
+package org.example.dto;
+
+/**
+ * Response DTO for per-uploader document statistics.
+ */
+public class UploaderStatsResponse {
+    private String uploadedBy;
+    private Long documents;
+    private Long totalBytes;
+
+    public UploaderStatsResponse() {
+    }
+
+    public UploaderStatsResponse(String uploadedBy, Long documents, Long totalBytes) {
+        this.uploadedBy = uploadedBy;
+        this.documents = documents;
+        this.totalBytes = totalBytes;
+    }
+
+    // Getters and Setters
+    public String getUploadedBy() {
+        return uploadedBy;
+    }
+
+    public void setUploadedBy(String uploadedBy) {
+        this.uploadedBy = uploadedBy;
+    }
+
+    public Long getDocuments() {
+        return documents;
+    }
+
+    public void setDocuments(Long documents) {
+        this.documents = documents;
+    }
+
+    public Long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void setTotalBytes(Long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+}
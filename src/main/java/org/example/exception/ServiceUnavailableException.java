@@ -0,0 +1,14 @@
+package org.example.exception;
+
+/**
+ * Custom exception for temporarily overloaded resources (mapped to 503 Service Unavailable).
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.messaging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded buffer for consumed Kafka messages, with (approximately) FIFO and O(1) random retrieval
+ * backed by a StripedRingBag.
+ * The size is tracked in a separate counter, so size() is O(1) and the capacity check needs no lock.
+ * What happens when the buffer is full depends on the overflow policy:
+ * DROP_OLDEST evicts the head, DROP_NEWEST rejects the new message, and PAUSE accepts it and
+ * leaves it to the owner to stop the producer of messages (see isFull()).
+ */
+public class MessageBuffer {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DROP_NEWEST,
+        PAUSE
+    }
+
+    private final StripedRingBag bag;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final int capacity;
+    private final OverflowPolicy policy;
+
+    public MessageBuffer(int capacity, OverflowPolicy policy, int stripes) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be at least 1");
+        }
+        this.bag = new StripedRingBag(stripes);
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    /**
+     * Add a message.
+     *
+     * @return false if the message was dropped (DROP_NEWEST only)
+     */
+    public boolean offer(String message) {
+        // Count before adding, so poll() never decrements below the number of queued messages
+        if (size.incrementAndGet() > capacity && policy == OverflowPolicy.DROP_NEWEST) {
+            size.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        bag.add(message);
+        if (policy == OverflowPolicy.DROP_OLDEST) {
+            while (size.get() > capacity && poll() != null) {
+                dropped.increment();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add a batch of messages in one operation. With DROP_NEWEST only the messages that fit are
+     * added, starting from the first one.
+     *
+     * @return the number of messages added
+     */
+    public int offerAll(List<String> batch) {
+        int count = batch.size();
+        int accepted = count;
+        int newSize = size.addAndGet(count);
+        if (newSize > capacity && policy == OverflowPolicy.DROP_NEWEST) {
+            int excess = Math.min(count, newSize - capacity);
+            size.addAndGet(-excess);
+            dropped.add(excess);
+            accepted = count - excess;
+        }
+        bag.addAll(accepted == count ? batch : batch.subList(0, accepted));
+        if (policy == OverflowPolicy.DROP_OLDEST) {
+            while (size.get() > capacity && poll() != null) {
+                dropped.increment();
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Remove the oldest message (approximately), or return null if empty.
+     */
+    public String poll() {
+        String message = bag.poll();
+        if (message != null) {
+            size.decrementAndGet();
+        }
+        return message;
+    }
+
+    /**
+     * Remove a random message, or return null if empty.
+     */
+    public String pollRandom() {
+        String message = bag.pollRandom();
+        if (message != null) {
+            size.decrementAndGet();
+        }
+        return message;
+    }
+
+    /**
+     * Copy of up to limit buffered messages, without removing them.
+     */
+    public List<String> peek(int limit) {
+        return bag.snapshot(limit);
+    }
+
+    public boolean isEmpty() {
+        return size.get() <= 0;
+    }
+
+    public boolean isFull() {
+        return size.get() >= capacity;
+    }
+
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy policy() {
+        return policy;
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+}
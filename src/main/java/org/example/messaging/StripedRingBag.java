@@ -0,0 +1,176 @@
+package org.example.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent bag of array-backed ring buffers ("stripes"), each guarded by its own lock.
+ * Adds go to the stripes round-robin and FIFO polls take from them in the same rotation, so
+ * retrieval order is approximately insertion order. Random removal picks an element by global
+ * position and swaps it with the tail of its stripe, so it is O(stripes) instead of O(n).
+ * A random removal moves the newest element of that stripe forward, which is the only deviation
+ * from per-stripe FIFO order.
+ */
+public class StripedRingBag {
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final AtomicLong addSequence = new AtomicLong();
+    private final AtomicLong pollSequence = new AtomicLong();
+
+    public StripedRingBag(int stripes) {
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    public void add(String item) {
+        stripes[(int) (addSequence.getAndIncrement() & stripeMask)].add(item);
+    }
+
+    /**
+     * Add all items with one lock acquisition per stripe; the items are spread over the stripes
+     * in the same rotation as single adds.
+     */
+    public void addAll(List<String> items) {
+        int n = items.size();
+        if (n == 0) {
+            return;
+        }
+        long base = addSequence.getAndAdd(n);
+        for (int offset = 0; offset < Math.min(n, stripes.length); offset++) {
+            stripes[(int) ((base + offset) & stripeMask)].addEvery(items, offset, stripes.length);
+        }
+    }
+
+    /**
+     * Remove an element in (approximately) insertion order, or return null if empty.
+     */
+    public String poll() {
+        int start = (int) (pollSequence.getAndIncrement() & stripeMask);
+        for (int i = 0; i < stripes.length; i++) {
+            String item = stripes[(start + i) & stripeMask].pollFirst();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove a uniformly chosen element (exact when not concurrently modified), or return null if empty.
+     */
+    public String pollRandom() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.count;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (total > 0) {
+            // Pick the stripe holding the chosen global position; counts may change concurrently
+            int position = random.nextInt(total);
+            for (Stripe stripe : stripes) {
+                int count = stripe.count;
+                if (position < count) {
+                    String item = stripe.removeRandom(random);
+                    if (item != null) {
+                        return item;
+                    }
+                    break;
+                }
+                position -= count;
+            }
+        }
+        // Fallback after a concurrent change: first non-empty stripe
+        for (Stripe stripe : stripes) {
+            String item = stripe.removeRandom(random);
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copy of up to limit elements, stripe by stripe (not in global insertion order).
+     */
+    public List<String> snapshot(int limit) {
+        List<String> items = new ArrayList<>(Math.min(limit, 1024));
+        for (Stripe stripe : stripes) {
+            if (items.size() >= limit) {
+                break;
+            }
+            stripe.copyTo(items, limit);
+        }
+        return items;
+    }
+
+    /**
+     * Growable ring buffer; capacity is always a power of two.
+     */
+    private static final class Stripe {
+        private String[] items = new String[16];
+        private int head;
+        private volatile int count; // Written under the lock, read without it for sizing
+
+        synchronized void add(String item) {
+            if (count == items.length) {
+                grow();
+            }
+            items[(head + count) & (items.length - 1)] = item;
+            count++;
+        }
+
+        synchronized void addEvery(List<String> source, int from, int step) {
+            for (int i = from; i < source.size(); i += step) {
+                add(source.get(i));
+            }
+        }
+
+        synchronized String pollFirst() {
+            if (count == 0) {
+                return null;
+            }
+            String item = items[head];
+            items[head] = null;
+            head = (head + 1) & (items.length - 1);
+            count--;
+            return item;
+        }
+
+        synchronized String removeRandom(ThreadLocalRandom random) {
+            if (count == 0) {
+                return null;
+            }
+            int mask = items.length - 1;
+            int index = (head + random.nextInt(count)) & mask;
+            int last = (head + count - 1) & mask;
+            String item = items[index];
+            items[index] = items[last];
+            items[last] = null;
+            count--;
+            return item;
+        }
+
+        synchronized void copyTo(List<String> target, int limit) {
+            int mask = items.length - 1;
+            for (int i = 0; i < count && target.size() < limit; i++) {
+                target.add(items[(head + i) & mask]);
+            }
+        }
+
+        private void grow() {
+            String[] grown = new String[items.length << 1];
+            for (int i = 0; i < count; i++) {
+                grown[i] = items[(head + i) & (items.length - 1)];
+            }
+            items = grown;
+            head = 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource wrapper that measures how long connections are held, per HTTP endpoint.
+ * Records the time between getConnection() and close() into the
+ * ltapp.db.connection.hold timer, tagged with "METHOD /path/pattern" of the current request
+ * (or "background" for scheduled jobs, Kafka listeners and startup work).
+ * Closeable, so the wrapped pool is still shut down with the context when it replaces the pool bean.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public static final String METRIC_NAME = "ltapp.db.connection.hold";
+
+    private static final String BACKGROUND = "background";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource,
+                                        ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        super(targetDataSource);
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Close the target if it is a pool (picked up as the inferred destroy method of the bean).
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection track(Connection connection) {
+        Timer timer = timerFor(currentEndpoint());
+        if (timer == null) {
+            return connection;
+        }
+        long start = System.nanoTime();
+        boolean[] closed = new boolean[1];
+
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldTimeDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (!closed[0]) {
+                                closed[0] = true;
+                                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private Timer timerFor(String endpoint) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return null;
+        }
+        return timers.computeIfAbsent(endpoint, key -> Timer.builder(METRIC_NAME)
+                .description("Time a JDBC connection is held, by HTTP endpoint")
+                .tag("endpoint", key)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return BACKGROUND;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Fall back to a fixed value instead of the raw URI to keep tag cardinality bounded
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+}
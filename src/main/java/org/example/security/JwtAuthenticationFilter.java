@@ -29,41 +29,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        // Extract token from Authorization: Bearer <token> header; repeat tokens are served from the cache
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String jwt = authHeader.substring(7);
+            JwtPrincipal principal = verifiedTokenCache.getOrVerify(jwt, jwtService);
 
-        // Extract token from Authorization: Bearer <token> header
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            try {
-                username = jwtService.extractUsername(jwt);
-            } catch (Exception e) {
-                logger.debug("Failed to extract username from token: {}", e.getMessage());
+            // Checked on every request, also for cached tokens
+            if (principal != null && tokenRevocationList.isRevoked(principal.getTokenId())) {
+                logger.debug("JWT token revoked: jti={}", principal.getTokenId());
+                principal = null;
             }
-        }
 
-        // If username extracted and no authentication in context, validate and set it
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtService.validateToken(jwt)) {
-                String role = jwtService.extractRole(jwt);
-                
+            if (principal != null && principal.getUsername() != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        username,
+                        principal.getUsername(),
                         null,
-                        Collections.singletonList(new SimpleGrantedAuthority(role))
+                        Collections.singletonList(new SimpleGrantedAuthority(principal.getRole()))
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-                
-                logger.debug("JWT authentication successful for user: {}", username);
+
+                logger.debug("JWT authentication successful for user: {}", principal.getUsername());
             } else {
-                logger.debug("JWT token validation failed for user: {}", username);
+                logger.debug("JWT token validation failed");
             }
         }
 
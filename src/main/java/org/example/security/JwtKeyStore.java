@@ -0,0 +1,208 @@
+package org.example.security;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.example.config.JwtKeyProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT signing and verification keys, loaded once at startup.
+ * Tokens signed with an asymmetric key carry a kid header; verification looks the key up by kid,
+ * so several keys can be valid at the same time while keys are rotated.
+ */
+@Component
+public class JwtKeyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyStore.class);
+
+    public static final String HMAC = "HMAC";
+
+    private final SecretKey hmacKey;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final PrivateKey privateKey;
+    private final String keyId;
+    private final boolean acceptLegacyHmacTokens;
+    private final Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+
+    @Autowired
+    public JwtKeyStore(JwtKeyProperties properties, @Value("${ltapp.auth.jwt.secret}") String secret) {
+        this.hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+        String algorithm = properties.getAlgorithm();
+        if (HMAC.equalsIgnoreCase(algorithm)) {
+            this.signatureAlgorithm = null;
+            this.privateKey = null;
+            this.keyId = null;
+            this.acceptLegacyHmacTokens = true;
+        } else {
+            this.signatureAlgorithm = resolveAlgorithm(algorithm);
+            KeyPair keyPair = loadKeyPair(properties, signatureAlgorithm);
+            this.privateKey = keyPair.getPrivate();
+            this.keyId = StringUtils.hasText(properties.getKeyId()) ? properties.getKeyId() : thumbprint(keyPair.getPublic());
+            publicKeys.put(keyId, keyPair.getPublic());
+            this.acceptLegacyHmacTokens = properties.isAcceptLegacyHmacTokens();
+            if (acceptLegacyHmacTokens) {
+                logger.warn("ltapp.auth.jwt.accept-legacy-hmac-tokens is enabled: tokens without kid are still " +
+                        "verified with the HMAC secret, so anyone holding the secret can issue valid tokens. " +
+                        "Disable it once the HMAC tokens have expired.");
+            }
+        }
+
+        for (JwtKeyProperties.VerificationKey verificationKey : properties.getVerificationKeys()) {
+            PublicKey publicKey = readPublicKey(verificationKey.getPublicKeyLocation());
+            String id = StringUtils.hasText(verificationKey.getKeyId()) ? verificationKey.getKeyId() : thumbprint(publicKey);
+            publicKeys.putIfAbsent(id, publicKey);
+        }
+
+        logger.info("JWT signing: algorithm={}, kid={}, verification keys={}",
+                signatureAlgorithm != null ? signatureAlgorithm.getId() : HMAC, keyId, publicKeys.keySet());
+    }
+
+    /**
+     * Sign a token with the active key, adding the kid header for asymmetric keys.
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signatureAlgorithm == null) {
+            return builder.signWith(hmacKey);
+        }
+        return builder.header().keyId(keyId).and()
+                .signWith(privateKey, signatureAlgorithm);
+    }
+
+    /**
+     * Resolves the verification key from the token header: by kid when present, otherwise the
+     * HMAC secret. With an asymmetric algorithm, tokens without kid are rejected unless
+     * accept-legacy-hmac-tokens is enabled.
+     */
+    public Locator<Key> keyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(ProtectedHeader header) {
+                String kid = header.getKeyId();
+                if (kid == null) {
+                    if (!acceptLegacyHmacTokens) {
+                        throw new InvalidKeyException("JWT without key id is not accepted");
+                    }
+                    return hmacKey;
+                }
+                PublicKey publicKey = publicKeys.get(kid);
+                if (publicKey == null) {
+                    throw new InvalidKeyException("Unknown JWT key id: " + kid);
+                }
+                return publicKey;
+            }
+        };
+    }
+
+    /**
+     * Public verification keys as a JWK Set (RFC 7517); empty in HMAC mode.
+     */
+    public Map<String, Object> getJwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (Map.Entry<String, PublicKey> entry : publicKeys.entrySet()) {
+            PublicJwk<?> jwk = Jwks.builder().key(entry.getValue()).id(entry.getKey()).build();
+            Map<String, Object> json = new LinkedHashMap<>(jwk);
+            json.put("use", "sig");
+            keys.add(json);
+        }
+        return Map.of("keys", keys);
+    }
+
+    private static SignatureAlgorithm resolveAlgorithm(String algorithm) {
+        if ("ES256".equalsIgnoreCase(algorithm)) {
+            return Jwts.SIG.ES256;
+        }
+        if ("EdDSA".equalsIgnoreCase(algorithm)) {
+            return Jwts.SIG.EdDSA;
+        }
+        throw new IllegalArgumentException("Unsupported JWT algorithm: " + algorithm + " (supported: HMAC, ES256, EdDSA)");
+    }
+
+    private static KeyPair loadKeyPair(JwtKeyProperties properties, SignatureAlgorithm algorithm) {
+        if (properties.getPrivateKeyLocation() == null) {
+            logger.warn("No JWT private key configured, generated an ephemeral {} key pair. " +
+                    "Tokens will not survive a restart and are not shared between instances.", algorithm.getId());
+            // EdDSA would default to Ed448; Ed25519 is the common, faster curve
+            return algorithm == Jwts.SIG.EdDSA ? Jwks.CRV.Ed25519.keyPair().build() : algorithm.keyPair().build();
+        }
+        if (properties.getPublicKeyLocation() == null) {
+            throw new IllegalStateException("ltapp.auth.jwt.public-key-location is required with a private key");
+        }
+        return new KeyPair(readPublicKey(properties.getPublicKeyLocation()),
+                readPrivateKey(properties.getPrivateKeyLocation()));
+    }
+
+    private static PrivateKey readPrivateKey(Resource resource) {
+        byte[] der = readPem(resource);
+        return generate(resource, factory -> factory.generatePrivate(new PKCS8EncodedKeySpec(der)));
+    }
+
+    private static PublicKey readPublicKey(Resource resource) {
+        byte[] der = readPem(resource);
+        return generate(resource, factory -> factory.generatePublic(new X509EncodedKeySpec(der)));
+    }
+
+    /**
+     * PEM files don't name the key algorithm, so try the ones we support.
+     */
+    private static <T extends Key> T generate(Resource resource, KeyGenerator<T> generator) {
+        for (String algorithm : new String[]{"EC", "Ed25519"}) {
+            try {
+                return generator.generate(KeyFactory.getInstance(algorithm));
+            } catch (GeneralSecurityException e) {
+                // Not a key of this algorithm, try the next one
+            }
+        }
+        throw new IllegalStateException("Unsupported key (expected EC P-256 or Ed25519): " + resource.getDescription());
+    }
+
+    private static byte[] readPem(Resource resource) {
+        try {
+            String pem = resource.getContentAsString(StandardCharsets.US_ASCII);
+            String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+            return Base64.getDecoder().decode(base64);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to read key: " + resource.getDescription(), e);
+        }
+    }
+
+    private static String thumbprint(PublicKey publicKey) {
+        return Jwks.builder().key(publicKey).idFromThumbprint().build().getId();
+    }
+
+    @FunctionalInterface
+    private interface KeyGenerator<T> {
+        T generate(KeyFactory factory) throws GeneralSecurityException;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.security;
+
+import java.util.Date;
+
+/**
+ * Claims of a verified JWT token: token id (jti), subject, role and expiration.
+ * Produced by JwtService.parseToken from a single parse and signature check.
+ */
+public class JwtPrincipal {
+    private final String tokenId; // null for tokens issued before jti was added
+    private final String username;
+    private final String role;
+    private final Date expiration;
+
+    public JwtPrincipal(String tokenId, String username, String role, Date expiration) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.role = role;
+        this.expiration = expiration;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+}
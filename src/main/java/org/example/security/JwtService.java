@@ -1,38 +1,45 @@
 package org.example.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * Service for JWT token generation and validation.
- * Uses HS256 algorithm with configurable secret and expiration.
+ * Signs with the HMAC secret or an asymmetric key (ES256/EdDSA), see JwtKeyStore.
  */
 @Service
 public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
-    @Value("${ltapp.auth.jwt.secret}")
-    private String secret;
+    @Autowired
+    private JwtKeyStore jwtKeyStore;
 
     @Value("${ltapp.auth.jwt.expiration:3600}") // Default: 3600 seconds (1 hour)
     private Long expirationSeconds;
 
+    private JwtParser jwtParser;
+
     /**
-     * Get the signing key from the secret.
+     * Build the parser once; it is immutable and thread-safe.
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @PostConstruct
+    void init() {
+        jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyStore.keyLocator())
+                .build();
     }
 
     /**
@@ -46,15 +53,37 @@ public class JwtService {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationSeconds * 1000);
 
-        return Jwts.builder()
-                .subject(username)
-                .claim("role", role)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
+        return jwtKeyStore.sign(Jwts.builder()
+                        .id(UUID.randomUUID().toString()) // jti, used for revocation
+                        .subject(username)
+                        .claim("role", role)
+                        .issuedAt(now)
+                        .expiration(expiryDate))
                 .compact();
     }
 
+    /**
+     * Verify a token and return its claims in a single parse.
+     * Signature and expiration are checked by the parser.
+     *
+     * @param token the JWT token string
+     * @return the verified principal, or null if the token is invalid or expired
+     */
+    public JwtPrincipal parseToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            return new JwtPrincipal(
+                    claims.getId(),
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.getExpiration()
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Token validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Extract username from token.
      */
@@ -88,11 +117,7 @@ public class JwtService {
      * Extract all claims from token.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -0,0 +1,76 @@
+package org.example.security;
+
+import org.example.config.PasswordEncoderProperties;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the application's password encoders from PasswordEncoderProperties.
+ * Shared by SecurityConfig and the password hashing benchmark, so both measure the same setup.
+ */
+public final class PasswordEncoderFactory {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+    public static final String SCRYPT = "scrypt";
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+     * Create a DelegatingPasswordEncoder that encodes with the configured algorithm ("{id}hash" format)
+     * and matches hashes of every supported algorithm. Hashes without an {id} prefix, as stored
+     * before the encoder became configurable, are treated as BCrypt.
+     */
+    public static PasswordEncoder createDelegatingEncoder(PasswordEncoderProperties properties) {
+        String idForEncode = properties.getAlgorithm().toLowerCase();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        for (String id : new String[]{BCRYPT, ARGON2, PBKDF2, SCRYPT}) {
+            encoders.put(id, createEncoder(id, properties));
+        }
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + properties.getAlgorithm()
+                    + " (supported: " + String.join(", ", encoders.keySet()) + ")");
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+        return delegating;
+    }
+
+    /**
+     * Create a single (non-delegating) encoder for one algorithm.
+     */
+    public static PasswordEncoder createEncoder(String algorithm, PasswordEncoderProperties properties) {
+        return switch (algorithm.toLowerCase()) {
+            case BCRYPT -> new BCryptPasswordEncoder(properties.getBcrypt().getStrength());
+            case ARGON2 -> {
+                PasswordEncoderProperties.Argon2 argon2 = properties.getArgon2();
+                yield new Argon2PasswordEncoder(argon2.getSaltLength(), argon2.getHashLength(),
+                        argon2.getParallelism(), argon2.getMemoryKb(), argon2.getIterations());
+            }
+            case PBKDF2 -> {
+                // The hash holds only salt and key, not the iteration count, so upgradeEncoding is always
+                // false: a higher iteration count applies to new hashes only
+                PasswordEncoderProperties.Pbkdf2 pbkdf2 = properties.getPbkdf2();
+                yield new Pbkdf2PasswordEncoder("", pbkdf2.getSaltLength(), pbkdf2.getIterations(),
+                        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            }
+            case SCRYPT -> {
+                PasswordEncoderProperties.Scrypt scrypt = properties.getScrypt();
+                yield new SCryptPasswordEncoder(scrypt.getCpuCost(), scrypt.getMemoryCost(),
+                        scrypt.getParallelization(), scrypt.getKeyLength(), scrypt.getSaltLength());
+            }
+            default -> throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        };
+    }
+}
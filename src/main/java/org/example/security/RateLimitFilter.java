@@ -0,0 +1,197 @@
+package org.example.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.config.RateLimitProperties;
+import org.example.dto.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rate limiting filter, runs after JwtAuthenticationFilter so authenticated requests are limited
+ * per user and anonymous requests per client IP. Limits are token buckets configured per route in
+ * ltapp.rate-limit.rules; throttled requests get 429 with a Retry-After header.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private TokenBucketLimiter limiter;
+    private List<CompiledRule> rules;
+
+    @Autowired
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() {
+        limiter = new TokenBucketLimiter(properties.getStripes(), properties.getMaxKeys());
+        rules = new ArrayList<>();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            rules.add(compile(rule));
+        }
+        Gauge.builder("ltapp.ratelimit.buckets", limiter, TokenBucketLimiter::size)
+                .description("Number of active rate limit buckets")
+                .register(meterRegistry);
+        if (properties.isEnabled()) {
+            logger.info("Rate limiting enabled: rules={}", rules.stream().map(CompiledRule::name).toList());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        CompiledRule rule = findRule(request);
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = rule.name() + '|' + clientKey(request, rule.byUser());
+        long waitNanos = limiter.tryAcquire(key, rule.emissionIntervalNanos(), rule.capacity(), System.nanoTime());
+        if (waitNanos == 0) {
+            rule.allowed().increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rule.throttled().increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        logger.debug("Request throttled: rule={}, key={}, retryAfter={}s", rule.name(), key, retryAfterSeconds);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), ApiResponse.error(
+                "TOO_MANY_REQUESTS",
+                "Rate limit exceeded, retry after " + retryAfterSeconds + " seconds",
+                null
+        ));
+    }
+
+    /**
+     * Drop buckets that have fully refilled, so idle clients don't hold memory.
+     */
+    @Scheduled(fixedDelayString = "${ltapp.rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdle() {
+        if (limiter != null) {
+            limiter.evictIdle(System.nanoTime());
+        }
+    }
+
+    private CompiledRule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        for (CompiledRule rule : rules) {
+            if (!rule.methods().isEmpty() && !rule.methods().contains(method)) {
+                continue;
+            }
+            for (String pattern : rule.paths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request, boolean byUser) {
+        if (byUser) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private CompiledRule compile(RateLimitProperties.Rule rule) {
+        if (!StringUtils.hasText(rule.getName()) || rule.getPaths().isEmpty()) {
+            throw new IllegalArgumentException("Rate limit rule needs a name and at least one path");
+        }
+        if (rule.getCapacity() < 1 || rule.getRefillPerSecond() <= 0) {
+            throw new IllegalArgumentException("Rate limit rule " + rule.getName()
+                    + ": capacity must be at least 1 and refillPerSecond positive");
+        }
+        String key = rule.getKey().toUpperCase(Locale.ROOT);
+        if (!key.equals("USER") && !key.equals("IP")) {
+            throw new IllegalArgumentException("Rate limit rule " + rule.getName() + ": key must be USER or IP");
+        }
+        return new CompiledRule(
+                rule.getName(),
+                List.copyOf(rule.getPaths()),
+                rule.getMethods().stream().map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                key.equals("USER"),
+                rule.getCapacity(),
+                Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond())),
+                Counter.builder("ltapp.ratelimit.requests")
+                        .description("Requests checked by the rate limiter")
+                        .tag("rule", rule.getName())
+                        .tag("result", "allowed")
+                        .register(meterRegistry),
+                Counter.builder("ltapp.ratelimit.requests")
+                        .description("Requests checked by the rate limiter")
+                        .tag("rule", rule.getName())
+                        .tag("result", "throttled")
+                        .register(meterRegistry)
+        );
+    }
+
+    private record CompiledRule(String name, List<String> paths, Set<String> methods, boolean byUser,
+                                int capacity, long emissionIntervalNanos, Counter allowed, Counter throttled) {
+    }
+}
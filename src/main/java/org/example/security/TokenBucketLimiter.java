@@ -0,0 +1,97 @@
+package org.example.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets keyed by string, stored in independent stripes.
+ * Each bucket is a single AtomicLong holding its theoretical arrival time (GCRA): a request
+ * advances it by one emission interval with a CAS, which is equivalent to taking one token from a
+ * bucket of the given capacity that refills at a constant rate. A bucket whose arrival time lies in
+ * the past is full again, so it can be dropped without changing behaviour.
+ */
+public class TokenBucketLimiter {
+
+    private final List<Map<String, AtomicLong>> stripes;
+    private final int stripeMask;
+    private final int maxKeysPerStripe;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public TokenBucketLimiter(int stripes, int maxKeys) {
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        this.stripes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            this.stripes.add(new ConcurrentHashMap<>());
+        }
+        this.stripeMask = count - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / count);
+    }
+
+    /**
+     * Take one token from the bucket of the given key.
+     *
+     * @param emissionIntervalNanos time to refill one token
+     * @param capacity              bucket size (burst)
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, long emissionIntervalNanos, int capacity, long nowNanos) {
+        AtomicLong bucket = bucket(key, nowNanos);
+        if (bucket == null) {
+            return 0; // Stripe full: fail open rather than throttle unrelated clients
+        }
+        long burst = emissionIntervalNanos * capacity;
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long excess = newTat - nowNanos - burst;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Remove buckets that have fully refilled.
+     */
+    public void evictIdle(long nowNanos) {
+        for (Map<String, AtomicLong> stripe : stripes) {
+            stripe.entrySet().removeIf(entry -> {
+                if (entry.getValue().get() - nowNanos <= 0) {
+                    size.decrementAndGet();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private AtomicLong bucket(String key, long nowNanos) {
+        int hash = key.hashCode();
+        Map<String, AtomicLong> stripe = stripes.get((hash ^ (hash >>> 16)) & stripeMask);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe) {
+            return null;
+        }
+        AtomicLong created = new AtomicLong(nowNanos);
+        bucket = stripe.putIfAbsent(key, created);
+        if (bucket == null) {
+            size.incrementAndGet();
+            return created;
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.example.database.entity.RevokedTokenEntity;
+import org.example.database.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory list of revoked access tokens (by jti), backed by the revoked_tokens table.
+ * A Bloom filter answers "not revoked" for almost every token without touching the set, so the
+ * check on the authentication hot path is a few hash computations. Entries are dropped when the
+ * token expires; the list is reloaded periodically to pick up revocations from other instances.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final Counter rejected;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${ltapp.auth.revocation.expected-tokens:100000}") int expectedTokens,
+                               @Value("${ltapp.auth.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(expectedTokens, falsePositiveRate), new ConcurrentHashMap<>());
+        this.rejected = Counter.builder("ltapp.auth.revocation.rejected")
+                .description("Requests rejected because their token was revoked")
+                .register(meterRegistry);
+        Gauge.builder("ltapp.auth.revocation.size", this, list -> list.snapshot.expiries.size())
+                .description("Number of revoked, not yet expired tokens")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load persisted revocations before the first request is authenticated.
+     */
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    /**
+     * Whether a token id has been revoked. Tokens without jti cannot be revoked.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        if (!current.filter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = current.expiries.get(tokenId);
+        if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    /**
+     * Revoke a token until it expires. Persisted first, so the revocation survives restarts.
+     */
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (!revokedTokenRepository.existsById(tokenId)) {
+            revokedTokenRepository.save(new RevokedTokenEntity(tokenId, expiresAt));
+        }
+        synchronized (this) {
+            snapshot.add(tokenId, expiresAt.toEpochMilli());
+        }
+        logger.info("Token revoked: jti={}, expiresAt={}", tokenId, expiresAt);
+    }
+
+    /**
+     * Rebuild the list from the database: drops expired tokens (which a Bloom filter cannot remove)
+     * and picks up revocations made by other instances.
+     */
+    @Scheduled(initialDelayString = "${ltapp.auth.revocation.reload-interval-ms:30000}",
+               fixedDelayString = "${ltapp.auth.revocation.reload-interval-ms:30000}")
+    public void reload() {
+        try {
+            long now = System.currentTimeMillis();
+            List<RevokedTokenEntity> revoked = revokedTokenRepository.findByExpiresAtAfter(Instant.ofEpochMilli(now));
+
+            synchronized (this) {
+                Map<String, Long> expiries = new ConcurrentHashMap<>();
+                for (RevokedTokenEntity token : revoked) {
+                    expiries.put(token.getJti(), token.getExpiresAt().toEpochMilli());
+                }
+                // Keep local revocations committed after the query started
+                snapshot.expiries.forEach((tokenId, expiresAt) -> {
+                    if (expiresAt > now) {
+                        expiries.putIfAbsent(tokenId, expiresAt);
+                    }
+                });
+
+                BloomFilter filter = new BloomFilter(Math.max(expectedTokens, expiries.size() * 2), falsePositiveRate);
+                expiries.keySet().forEach(filter::add);
+                snapshot = new Snapshot(filter, expiries);
+            }
+            logger.debug("Token revocation list reloaded: size={}", revoked.size());
+        } catch (DataAccessException e) {
+            logger.warn("Token revocation list reload failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove expired rows from the database.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${ltapp.auth.revocation.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired revoked tokens", deleted);
+        }
+    }
+
+    /**
+     * Bloom filter and jti -> expiry map, replaced together on reload.
+     */
+    private static final class Snapshot {
+        private final BloomFilter filter;
+        private final Map<String, Long> expiries;
+
+        Snapshot(BloomFilter filter, Map<String, Long> expiries) {
+            this.filter = filter;
+            this.expiries = expiries;
+        }
+
+        void add(String tokenId, long expiresAt) {
+            // Map first: a concurrent reader that passes the filter must find the entry
+            expiries.put(tokenId, expiresAt);
+            filter.add(tokenId);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.utils.BoundedTtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of already verified JWT tokens.
+ * Keyed by the SHA-256 of the token, so raw tokens are not kept in memory; entries live until
+ * the token's exp claim. A repeat token costs one hash and one map lookup instead of a
+ * signature check and JSON parse. When the cache is full, a new token replaces an expired or an
+ * arbitrary cached one.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private static final String METRIC_NAME = "ltapp.auth.token.cache";
+
+    private final BoundedTtlCache<String, JwtPrincipal> entries;
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${ltapp.auth.token-cache.enabled:true}") boolean enabled,
+                              @Value("${ltapp.auth.token-cache.max-size:10000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.entries = new BoundedTtlCache<>(maxSize);
+        this.hits = Counter.builder(METRIC_NAME)
+                .description("Verified-token cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME)
+                .description("Verified-token cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", entries, BoundedTtlCache::size)
+                .description("Number of cached verified tokens")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the principal of a token, verifying it only when it is not cached yet.
+     *
+     * @return the verified principal, or null if the token is invalid or expired
+     */
+    public JwtPrincipal getOrVerify(String token, JwtService jwtService) {
+        if (!enabled) {
+            return jwtService.parseToken(token);
+        }
+
+        String key = TokenHashes.sha256Hex(token);
+        long now = System.currentTimeMillis();
+        JwtPrincipal cached = entries.get(key, now);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        JwtPrincipal principal = jwtService.parseToken(token);
+        if (principal != null && principal.getExpiration() != null) {
+            entries.put(key, principal, principal.getExpiration().getTime(), now);
+        }
+        return principal;
+    }
+
+    /**
+     * Remove all expired tokens; a full cache only evicts a few entries per new token.
+     */
+    @Scheduled(fixedDelayString = "${ltapp.auth.token-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        int removed = entries.evictExpired(System.currentTimeMillis());
+        if (removed > 0) {
+            logger.debug("Evicted {} expired tokens from cache", removed);
+        }
+    }
+
+    /**
+     * Drop all cached tokens.
+     */
+    public void clear() {
+        entries.clear();
+    }
+}
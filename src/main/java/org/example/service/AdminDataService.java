@@ -7,7 +7,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -55,26 +54,10 @@ public class AdminDataService {
     /**
      * Generate Kafka messages for datapool.
      */
-    public DatapoolGenerationResponse generateMessages(int count, String pattern) {
-        logger.info("Generating {} messages with pattern: {}", count, pattern);
-        
-        String messagePattern = pattern != null ? pattern : "test_message_{index}_{random}";
-        List<String> generatedMessages = kafkaMessageService.generateMessages(count, messagePattern);
-        
-        // Convert message list to IDs (use indices as IDs for simplicity)
-        List<Integer> sampleIds = new ArrayList<>();
-        int sampleSize = Math.min(10, generatedMessages.size());
-        for (int i = 0; i < sampleSize; i++) {
-            sampleIds.add(i);
-        }
+    public DatapoolGenerationResponse generateMessages(int count, String pattern, int threads) {
+        logger.info("Generating {} messages with pattern: {}, threads: {}", count, pattern, threads);
 
-        return new DatapoolGenerationResponse(
-                "MESSAGES",
-                count,
-                generatedMessages.size(),
-                messagePattern,
-                sampleIds
-        );
+        String messagePattern = pattern != null ? pattern : "test_message_{index}_{random}";
+        return kafkaMessageService.generateMessages(count, messagePattern, threads);
     }
 }
-
@@ -4,16 +4,26 @@ import org.example.database.entity.UserEntity;
 import org.example.database.repository.UserRepository;
 import org.example.dto.AuthResponse;
 import org.example.dto.LoginRequest;
+import org.example.dto.RefreshTokenRequest;
+import org.example.dto.RevokeTokenRequest;
+import org.example.dto.RevokeTokenResponse;
 import org.example.dto.RegisterRequest;
 import org.example.exception.EntityNotFoundException;
+import org.example.security.JwtKeyStore;
+import org.example.security.JwtPrincipal;
 import org.example.security.JwtService;
+import org.example.security.TokenRevocationList;
+import org.example.service.UserCredentialsCache.UserCredentials;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 /**
  * Service for authentication operations.
  * Handles user registration and login with JWT token generation.
@@ -24,76 +34,170 @@ public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
+    private final UserCredentialsCache userCredentialsCache;
+    private final JwtKeyStore jwtKeyStore;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
 
     @Autowired
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+    public AuthService(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                       JwtService jwtService, UserCredentialsCache userCredentialsCache, JwtKeyStore jwtKeyStore,
+                       RefreshTokenService refreshTokenService, TokenRevocationList tokenRevocationList) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtService = jwtService;
+        this.userCredentialsCache = userCredentialsCache;
+        this.jwtKeyStore = jwtKeyStore;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     /**
      * Register a new user.
+     * A single INSERT: duplicates are detected by the unique constraints on username and email,
+     * which is also correct when the same username is registered concurrently.
+     * Not transactional on purpose, so no connection is held while the password is hashed.
      */
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
-        // Check if username already exists
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists: " + request.getUsername());
-        }
-
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
-
         // Create and save user
         UserEntity user = new UserEntity();
         user.setUsername(request.getUsername());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHashingService.encode(request.getPassword()));
         user.setEmail(request.getEmail());
         user.setRole("ROLE_USER");
 
-        UserEntity savedUser = userRepository.save(user);
+        UserEntity savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateUserException(e, request);
+        }
+        userCredentialsCache.invalidate(savedUser.getUsername());
         logger.info("User registered: username={}, email={}", savedUser.getUsername(), savedUser.getEmail());
 
-        // Generate JWT token
-        String token = jwtService.generateToken(savedUser.getUsername(), savedUser.getRole());
-
-        return new AuthResponse(
-                token,
-                jwtService.getExpirationSeconds(),
-                savedUser.getUsername(),
-                savedUser.getRole()
-        );
+        return createAuthResponse(savedUser.getId(), savedUser.getUsername(), savedUser.getRole(),
+                request.isIssueRefreshToken());
     }
 
     /**
      * Authenticate user and generate JWT token.
      */
     public AuthResponse login(LoginRequest request) {
-        // Find user by username
-        UserEntity user = userRepository.findByUsername(request.getUsername())
+        // Find user by username (served from the credentials cache for repeat logins)
+        UserCredentials user = userCredentialsCache.findByUsername(request.getUsername())
                 .orElseThrow(() -> new EntityNotFoundException("Invalid username or password"));
 
         // Validate password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
             throw new EntityNotFoundException("Invalid username or password");
         }
 
+        upgradePasswordHash(user, request.getPassword());
+
         logger.info("User logged in: username={}", user.getUsername());
 
-        // Generate JWT token
-        String token = jwtService.generateToken(user.getUsername(), user.getRole());
+        return createAuthResponse(user.getId(), user.getUsername(), user.getRole(), request.isIssueRefreshToken());
+    }
+
+    /**
+     * Issue a new access token for a refresh token, without any password hashing.
+     * The refresh token is rotated: the presented one is consumed and a new one is returned.
+     */
+    @Transactional
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        UserEntity user = refreshTokenService.consume(request.getRefreshToken());
+        logger.debug("Access token refreshed: username={}", user.getUsername());
+        return createAuthResponse(user.getId(), user.getUsername(), user.getRole(), true);
+    }
+
+    /**
+     * Revoke the given access token (by jti, until it expires) and optionally a refresh token.
+     */
+    public RevokeTokenResponse revoke(String accessToken, RevokeTokenRequest request) {
+        JwtPrincipal principal = accessToken != null ? jwtService.parseToken(accessToken) : null;
+        if (principal == null) {
+            throw new IllegalArgumentException("A valid bearer token is required");
+        }
+        if (principal.getTokenId() == null) {
+            throw new IllegalArgumentException("Token has no jti claim and cannot be revoked");
+        }
+
+        tokenRevocationList.revoke(principal.getTokenId(), principal.getExpiration().toInstant());
+        boolean refreshTokenRevoked = request != null && request.getRefreshToken() != null
+                && refreshTokenService.revoke(request.getRefreshToken());
+        logger.info("Tokens revoked: username={}, jti={}", principal.getUsername(), principal.getTokenId());
+
+        return new RevokeTokenResponse(principal.getTokenId(), true, refreshTokenRevoked);
+    }
+
+    /**
+     * Generate the JWT access token for a user and, if requested, a new refresh token.
+     * Without a refresh token no database write is involved.
+     */
+    private AuthResponse createAuthResponse(Integer userId, String username, String role, boolean withRefreshToken) {
+        String token = jwtService.generateToken(username, role);
+        if (!withRefreshToken) {
+            return new AuthResponse(token, jwtService.getExpirationSeconds(), username, role);
+        }
+        String refreshToken = refreshTokenService.issue(userId);
 
         return new AuthResponse(
                 token,
                 jwtService.getExpirationSeconds(),
-                user.getUsername(),
-                user.getRole()
+                username,
+                role,
+                refreshToken,
+                refreshTokenService.getExpirationSeconds()
         );
     }
-}
 
+    /**
+     * Public JWT verification keys as a JWK Set.
+     */
+    public Map<String, Object> getJwks() {
+        return jwtKeyStore.getJwks();
+    }
+
+    /**
+     * Re-hash the password with the configured algorithm and cost if the stored hash is outdated
+     * (legacy BCrypt without {id} prefix, another algorithm or a lower cost).
+     * The raw password is only available at login, so this is the only place to upgrade.
+     */
+    private void upgradePasswordHash(UserCredentials user, String rawPassword) {
+        if (!passwordHashingService.upgradeEncoding(user.getPasswordHash())) {
+            return;
+        }
+        try {
+            String newHash = passwordHashingService.encode(rawPassword);
+            userRepository.updatePasswordHash(user.getId(), newHash);
+            userCredentialsCache.invalidate(user.getUsername());
+            logger.info("Password hash upgraded: username={}", user.getUsername());
+        } catch (RuntimeException e) {
+            // Login must not fail because of the upgrade, it is retried on the next login
+            logger.warn("Password hash upgrade failed: username={}, error={}", user.getUsername(), e.getMessage());
+        }
+    }
+
+    /**
+     * Translate a unique constraint violation on users into the "already exists" error.
+     */
+    private RuntimeException toDuplicateUserException(DataIntegrityViolationException e, RegisterRequest request) {
+        String constraint = null;
+        if (e.getCause() instanceof ConstraintViolationException violation) {
+            constraint = violation.getConstraintName();
+        }
+        String details = (constraint != null ? constraint : String.valueOf(e.getMostSpecificCause().getMessage()))
+                .toLowerCase();
+
+        // users_username_unique / users_username_key, users_email_unique / users_email_key
+        if (details.contains("username")) {
+            return new IllegalArgumentException("Username already exists: " + request.getUsername());
+        }
+        if (details.contains("email")) {
+            return new IllegalArgumentException("Email already exists: " + request.getEmail());
+        }
+        return e;
+    }
+}
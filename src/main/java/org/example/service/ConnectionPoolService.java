@@ -0,0 +1,158 @@
+package org.example.service;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.dto.ConnectionHoldStatsResponse;
+import org.example.dto.ConnectionPoolStatsResponse;
+import org.example.exception.EntityNotFoundException;
+import org.example.metrics.ConnectionHoldTimeDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for connection pool observability and live resizing.
+ * Works on every HikariCP pool of the application (primary and, if configured, read replicas).
+ */
+@Service
+public class ConnectionPoolService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolService.class);
+
+    private final List<DataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public ConnectionPoolService(List<DataSource> dataSources, MeterRegistry meterRegistry) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Get current state of all connection pools.
+     */
+    public List<ConnectionPoolStatsResponse> getPoolStats() {
+        return findPools().values().stream()
+                .map(this::toPoolStats)
+                .toList();
+    }
+
+    /**
+     * Resize a pool at runtime. Null values leave the setting unchanged.
+     *
+     * @param poolName pool to resize, or null for all pools
+     */
+    public List<ConnectionPoolStatsResponse> resizePool(String poolName, Integer maximumPoolSize, Integer minimumIdle) {
+        if (maximumPoolSize == null && minimumIdle == null) {
+            throw new IllegalArgumentException("Either maximumPoolSize or minimumIdle must be provided");
+        }
+
+        Map<String, HikariDataSource> pools = findPools();
+        List<HikariDataSource> targets = new ArrayList<>();
+        if (poolName == null) {
+            targets.addAll(pools.values());
+        } else if (pools.containsKey(poolName)) {
+            targets.add(pools.get(poolName));
+        } else {
+            throw new EntityNotFoundException("Connection pool not found: " + poolName);
+        }
+
+        for (HikariDataSource pool : targets) {
+            HikariConfigMXBean config = pool.getHikariConfigMXBean();
+            int newMax = maximumPoolSize != null ? maximumPoolSize : config.getMaximumPoolSize();
+            int newMinIdle = minimumIdle != null ? minimumIdle : Math.min(config.getMinimumIdle(), newMax);
+            if (newMax < 1) {
+                throw new IllegalArgumentException("maximumPoolSize must be at least 1");
+            }
+            if (newMinIdle < 0 || newMinIdle > newMax) {
+                throw new IllegalArgumentException("minimumIdle must be between 0 and maximumPoolSize");
+            }
+
+            // Grow max first, so minimumIdle never exceeds it while being applied
+            if (newMax >= config.getMaximumPoolSize()) {
+                config.setMaximumPoolSize(newMax);
+                config.setMinimumIdle(newMinIdle);
+            } else {
+                config.setMinimumIdle(newMinIdle);
+                config.setMaximumPoolSize(newMax);
+            }
+            logger.info("Connection pool resized: pool={}, maximumPoolSize={}, minimumIdle={}",
+                    pool.getPoolName(), newMax, newMinIdle);
+        }
+
+        return targets.stream().map(this::toPoolStats).toList();
+    }
+
+    /**
+     * Get the endpoints that hold JDBC connections the longest (by max hold time).
+     */
+    public List<ConnectionHoldStatsResponse> getTopConnectionHolders(int limit) {
+        return meterRegistry.find(ConnectionHoldTimeDataSource.METRIC_NAME).timers().stream()
+                .map(this::toHoldStats)
+                .sorted(Comparator.comparing(ConnectionHoldStatsResponse::getMaxTimeMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private Map<String, HikariDataSource> findPools() {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (DataSource dataSource : dataSources) {
+            collectPools(dataSource, pools);
+        }
+        return pools;
+    }
+
+    private void collectPools(DataSource dataSource, Map<String, HikariDataSource> pools) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (hikari != null) {
+            pools.putIfAbsent(hikari.getPoolName(), hikari);
+            return;
+        }
+        AbstractRoutingDataSource routing = DataSourceUnwrapper.unwrap(dataSource, AbstractRoutingDataSource.class);
+        if (routing != null) {
+            for (DataSource target : routing.getResolvedDataSources().values()) {
+                collectPools(target, pools);
+            }
+        }
+    }
+
+    private ConnectionPoolStatsResponse toPoolStats(HikariDataSource pool) {
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        // The pool MXBean is only available once the pool has been started
+        HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+        return new ConnectionPoolStatsResponse(
+                pool.getPoolName(),
+                poolBean != null ? poolBean.getActiveConnections() : 0,
+                poolBean != null ? poolBean.getIdleConnections() : 0,
+                poolBean != null ? poolBean.getTotalConnections() : 0,
+                poolBean != null ? poolBean.getThreadsAwaitingConnection() : 0,
+                config.getMaximumPoolSize(),
+                config.getMinimumIdle(),
+                config.getConnectionTimeout()
+        );
+    }
+
+    private ConnectionHoldStatsResponse toHoldStats(Timer timer) {
+        return new ConnectionHoldStatsResponse(
+                timer.getId().getTag("endpoint"),
+                timer.count(),
+                timer.totalTime(TimeUnit.MILLISECONDS),
+                timer.mean(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS)
+        );
+    }
+}
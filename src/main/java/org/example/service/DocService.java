@@ -2,9 +2,12 @@ package org.example.service;
 
 import org.example.database.entity.DocEntity;
 import org.example.database.repository.DocsRepository;
+import org.example.dto.CursorPageDto;
 import org.example.dto.DocDetailsResponse;
 import org.example.dto.DocResponse;
 import org.example.dto.DeleteResponse;
+import org.example.dto.DocStatsResponse;
+import org.example.dto.DocSummary;
 import org.example.dto.PageDto;
 import org.example.dto.SignedDocResponse;
 import org.example.exception.EntityNotFoundException;
@@ -12,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -20,7 +24,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -35,13 +42,15 @@ public class DocService {
     private static final Logger logger = LoggerFactory.getLogger(DocService.class);
 
     private final DocsRepository docsRepository;
+    private final DocumentStatsService documentStatsService;
 
     @Value("${ltapp.sign.processing-delay-ms:0}")
     private long processingDelayMs;
 
     @Autowired
-    public DocService(DocsRepository docsRepository) {
+    public DocService(DocsRepository docsRepository, DocumentStatsService documentStatsService) {
         this.docsRepository = docsRepository;
+        this.documentStatsService = documentStatsService;
     }
 
     /**
@@ -62,6 +71,7 @@ public class DocService {
             doc.setVersion(1);
             doc.setCreatedAt(Instant.now());
             DocEntity saved = docsRepository.save(doc);
+            documentStatsService.recordCreated(saved.getStatus(), uploadedBy, file.getSize());
 
             logger.info("Document uploaded: id={}, name={}, size={}, by={}",
                     saved.getId(), saved.getName(), file.getSize(), uploadedBy);
@@ -83,6 +93,7 @@ public class DocService {
     /**
      * Find documents by name.
      */
+    @Transactional(readOnly = true)
     public List<DocResponse> findDocumentsByName(String name) {
         List<DocEntity> entities = docsRepository.findByName(name);
         return entities.stream()
@@ -93,6 +104,7 @@ public class DocService {
     /**
      * Find documents by name with pagination.
      */
+    @Transactional(readOnly = true)
     public Page<DocResponse> searchDocuments(String name, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         // Note: This is a simplified search. In a real app, you'd use a proper search query.
@@ -116,9 +128,34 @@ public class DocService {
         );
     }
 
+    /**
+     * List documents uploaded by a user, newest first, with keyset pagination.
+     * The cursor encodes the (createdAt, id) of the last returned row, so every page costs
+     * the same regardless of depth, unlike OFFSET.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<DocSummary> listDocumentsByUploader(String uploadedBy, String cursor, int size) {
+        // Fetch one extra row to find out whether there is a next page
+        Limit limit = Limit.of(size + 1);
+        List<DocSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = docsRepository.findSummariesByUploader(uploadedBy, limit);
+        } else {
+            DocSummary position = decodeCursor(cursor);
+            rows = docsRepository.findSummariesByUploaderAfter(
+                    uploadedBy, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<DocSummary> content = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? encodeCursor(content.get(content.size() - 1)) : null;
+        return new CursorPageDto<>(content, content.size(), nextCursor, hasMore);
+    }
+
     /**
      * Get document by ID.
      */
+    @Transactional(readOnly = true)
     public DocResponse getDocumentById(Integer id) {
         DocEntity doc = docsRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Document not found with id: " + id));
@@ -151,6 +188,7 @@ public class DocService {
             doc.setName(file.getOriginalFilename());
             doc.setDocument(file.getBytes());
             DocEntity saved = docsRepository.save(doc);
+            documentStatsService.recordCreated(saved.getStatus(), saved.getUploadedBy(), file.getSize());
 
             long processingTime = System.currentTimeMillis() - startTime;
 
@@ -176,6 +214,7 @@ public class DocService {
     /**
      * Get document details by ID (extended metadata).
      */
+    @Transactional(readOnly = true)
     public DocDetailsResponse getDocumentDetails(Integer id) {
         DocEntity doc = docsRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Document not found with id: " + id));
@@ -191,6 +230,8 @@ public class DocService {
                 .orElseThrow(() -> new EntityNotFoundException("Document not found with id: " + id));
         
         docsRepository.delete(doc);
+        documentStatsService.recordDeleted(doc.getStatus(), doc.getUploadedBy(),
+                doc.getDocument() != null ? doc.getDocument().length : 0L);
         logger.info("Document deleted: id={}, name={}", id, doc.getName());
         
         return new DeleteResponse(id, true, "Document deleted successfully");
@@ -216,9 +257,11 @@ public class DocService {
         }
 
         // Update document status
+        String previousStatus = doc.getStatus();
         doc.setStatus("SIGNED");
         doc.setVersion(doc.getVersion() + 1);
         DocEntity saved = docsRepository.save(doc);
+        documentStatsService.recordStatusChange(previousStatus, saved.getStatus());
 
         long processingTime = System.currentTimeMillis() - startTime;
 
@@ -260,6 +303,7 @@ public class DocService {
             doc.setUploadedBy("system");
 
             DocEntity saved = docsRepository.save(doc);
+            documentStatsService.recordCreated(saved.getStatus(), saved.getUploadedBy(), size);
             generatedIds.add(saved.getId());
         }
 
@@ -270,6 +314,7 @@ public class DocService {
     /**
      * Get documents for datapool (lightweight list).
      */
+    @Transactional(readOnly = true)
     public List<DocResponse> getDocumentsForDatapool(Integer limit, String status, String namePrefix) {
         List<DocEntity> allDocs = new java.util.ArrayList<>();
         docsRepository.findAll().forEach(allDocs::add);
@@ -282,6 +327,13 @@ public class DocService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get aggregated document statistics (counts by status, bytes, top uploaders).
+     */
+    public DocStatsResponse getDocumentStats() {
+        return documentStatsService.getStats();
+    }
+
     /**
      * Convert Page<DocResponse> to PageDto<DocResponse>.
      */
@@ -295,6 +347,24 @@ public class DocService {
         );
     }
 
+    private static String encodeCursor(DocSummary last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DocSummary decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            DocSummary position = new DocSummary();
+            position.setCreatedAt(Instant.parse(raw.substring(0, separator)));
+            position.setId(Integer.valueOf(raw.substring(separator + 1)));
+            return position;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     private DocResponse toDocResponse(DocEntity entity) {
         return new DocResponse(
                 entity.getId(),
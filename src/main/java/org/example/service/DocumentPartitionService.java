@@ -0,0 +1,161 @@
+package org.example.service;
+
+import org.example.config.PartitionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * Maintenance of the range-partitioned documents table.
+ * Creates partitions ahead of time and drops partitions that fell out of the retention window,
+ * so old documents are removed without massive DELETEs and index bloat.
+ */
+@Service
+public class DocumentPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentPartitionService.class);
+
+    private static final DateTimeFormatter PARTITION_SUFFIX =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    // Upper bound of every range partition, e.g. "FOR VALUES FROM (...) TO ('2026-10-19 00:00:00+00')"
+    private static final String PARTITION_BOUNDS_SQL =
+            "SELECT c.relname AS name, " +
+            "       (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([^'']+)''\\)'))[1]::timestamptz AS upper_bound " +
+            "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'documents'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionProperties partitionProperties;
+
+    @Autowired
+    public DocumentPartitionService(JdbcTemplate jdbcTemplate, PartitionProperties partitionProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionProperties = partitionProperties;
+    }
+
+    /**
+     * Periodic maintenance: create upcoming partitions and apply the retention policy.
+     */
+    @Scheduled(fixedDelayString = "${ltapp.partition.maintenance-interval-ms:3600000}")
+    public void maintainPartitions() {
+        if (!partitionProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            if (!isPartitioned()) {
+                logger.warn("Table 'documents' is not partitioned. Skipping partition maintenance.");
+                return;
+            }
+            createFuturePartitions();
+            dropExpiredPartitions();
+        } catch (DataAccessException e) {
+            logger.error("Document partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Create partitions from the current period up to the configured number of periods ahead.
+     */
+    public int createFuturePartitions() {
+        Instant now = Instant.now();
+        Instant latestUpperBound = jdbcTemplate.query(
+                "SELECT max(b.upper_bound) FROM (" + PARTITION_BOUNDS_SQL + ") b",
+                rs -> rs.next() && rs.getTimestamp(1) != null ? rs.getTimestamp(1).toInstant() : null);
+
+        Instant from = periodStart(now);
+        if (latestUpperBound != null && latestUpperBound.isAfter(from)) {
+            from = latestUpperBound;
+        }
+        Instant horizon = now.plus(periodLength().multipliedBy(partitionProperties.getPremake()));
+
+        int created = 0;
+        while (from.isBefore(horizon)) {
+            Instant to = periodEnd(from);
+            String partitionName = "documents_p" + PARTITION_SUFFIX.format(from);
+            try {
+                if (!relationExists(partitionName)) {
+                    // IF NOT EXISTS still guards against another instance creating it meanwhile
+                    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName +
+                            " PARTITION OF documents FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+                    created++;
+                    logger.debug("Created document partition {} [{}, {})", partitionName, from, to);
+                }
+            } catch (DataAccessException e) {
+                // Typically rows for this range already sit in documents_default
+                logger.warn("Could not create document partition {} [{}, {}): {}",
+                        partitionName, from, to, e.getMessage());
+            }
+            from = to;
+        }
+        return created;
+    }
+
+    /**
+     * Drop partitions whose whole range is older than the retention window.
+     */
+    public int dropExpiredPartitions() {
+        int retentionDays = partitionProperties.getRetentionDays();
+        if (retentionDays <= 0) {
+            return 0;
+        }
+
+        Instant cutoff = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+        List<String> expired = jdbcTemplate.queryForList(
+                "SELECT b.name FROM (" + PARTITION_BOUNDS_SQL + ") b " +
+                "WHERE b.upper_bound IS NOT NULL AND b.upper_bound <= ?",
+                String.class, java.sql.Timestamp.from(cutoff));
+
+        for (String partitionName : expired) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS \"" + partitionName + "\"");
+            logger.info("Dropped expired document partition {} (retention: {} days)", partitionName, retentionDays);
+        }
+        return expired.size();
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT coalesce(bool_or(c.relkind = 'p'), false) FROM pg_class c WHERE c.oid = to_regclass('documents')",
+                Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private boolean relationExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+    }
+
+    private boolean isWeekly() {
+        return "WEEKLY".equalsIgnoreCase(partitionProperties.getInterval());
+    }
+
+    private Duration periodLength() {
+        return isWeekly() ? Duration.ofDays(7) : Duration.ofDays(1);
+    }
+
+    private Instant periodStart(Instant instant) {
+        var day = instant.atZone(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+        if (isWeekly()) {
+            day = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        return day.toInstant();
+    }
+
+    private Instant periodEnd(Instant from) {
+        return periodStart(from).plus(periodLength());
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.service;
+
+import org.example.dto.DocStatsResponse;
+import org.example.dto.UploaderStatsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Incrementally maintained document statistics.
+ * DocService updates the counters on upload, sign and delete (after commit), and a periodic
+ * reconciliation with the database corrects any drift (seeding, partition drops, lost updates).
+ * Reads are served from a short-lived snapshot, so polling never scans the documents table.
+ */
+@Service
+public class DocumentStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStatsService.class);
+
+    private static final String UNKNOWN_UPLOADER = "unknown";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Counters counters = new Counters(null);
+    private volatile DocStatsResponse snapshot;
+    private volatile long snapshotCreatedAt;
+
+    @Value("${ltapp.stats.top-uploaders:10}")
+    private int topUploaders;
+
+    @Value("${ltapp.stats.snapshot-ttl-ms:1000}")
+    private long snapshotTtlMs;
+
+    @Autowired
+    public DocumentStatsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record a newly stored document.
+     */
+    public void recordCreated(String status, String uploadedBy, long bytes) {
+        afterCommit(() -> counters.add(status, uploadedBy, 1, bytes));
+    }
+
+    /**
+     * Record a status transition of an existing document (e.g. UPLOADED -> SIGNED).
+     */
+    public void recordStatusChange(String oldStatus, String newStatus) {
+        if (oldStatus == null || oldStatus.equals(newStatus)) {
+            return;
+        }
+        afterCommit(() -> {
+            Counters current = counters;
+            current.statusCount(oldStatus).decrementAndGet();
+            current.statusCount(newStatus).incrementAndGet();
+        });
+    }
+
+    /**
+     * Record a deleted document.
+     */
+    public void recordDeleted(String status, String uploadedBy, long bytes) {
+        afterCommit(() -> counters.add(status, uploadedBy, -1, -bytes));
+    }
+
+    /**
+     * Get document statistics. O(1) for repeated polls within the snapshot TTL.
+     */
+    public DocStatsResponse getStats() {
+        DocStatsResponse current = snapshot;
+        if (current != null && System.currentTimeMillis() - snapshotCreatedAt < snapshotTtlMs) {
+            return current;
+        }
+
+        Counters source = counters;
+        Map<String, Long> byStatus = new TreeMap<>();
+        source.byStatus.forEach((status, count) -> byStatus.put(status, count.get()));
+
+        var top = source.byUploader.entrySet().stream()
+                .map(entry -> new UploaderStatsResponse(
+                        entry.getKey(),
+                        entry.getValue()[0].get(),
+                        entry.getValue()[1].get()))
+                .filter(stats -> stats.getDocuments() > 0)
+                .sorted(Comparator.comparing(UploaderStatsResponse::getDocuments).reversed())
+                .limit(topUploaders)
+                .toList();
+
+        current = new DocStatsResponse(
+                source.totalDocuments.get(),
+                source.totalBytes.get(),
+                byStatus,
+                top,
+                source.reconciledAt
+        );
+        snapshot = current;
+        snapshotCreatedAt = System.currentTimeMillis();
+        return current;
+    }
+
+    /**
+     * Rebuild counters from the database with a single aggregate query.
+     */
+    @Scheduled(fixedDelayString = "${ltapp.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Counters fresh = new Counters(Instant.now());
+            jdbcTemplate.query(
+                    "SELECT status, uploaded_by, count(*), coalesce(sum(octet_length(document)), 0) " +
+                    "FROM documents GROUP BY status, uploaded_by",
+                    (RowCallbackHandler) rs -> fresh.add(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4)));
+            counters = fresh;
+            snapshot = null;
+            logger.debug("Document stats reconciled: documents={}, bytes={}",
+                    fresh.totalDocuments.get(), fresh.totalBytes.get());
+        } catch (DataAccessException e) {
+            logger.warn("Document stats reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Counter set; replaced as a whole on reconciliation.
+     */
+    private static class Counters {
+        private final AtomicLong totalDocuments = new AtomicLong();
+        private final AtomicLong totalBytes = new AtomicLong();
+        private final Map<String, AtomicLong> byStatus = new ConcurrentHashMap<>();
+        // uploader -> [documents, bytes]
+        private final Map<String, AtomicLong[]> byUploader = new ConcurrentHashMap<>();
+        private final Instant reconciledAt;
+
+        Counters(Instant reconciledAt) {
+            this.reconciledAt = reconciledAt;
+        }
+
+        AtomicLong statusCount(String status) {
+            return byStatus.computeIfAbsent(status, key -> new AtomicLong());
+        }
+
+        void add(String status, String uploadedBy, long documents, long bytes) {
+            totalDocuments.addAndGet(documents);
+            totalBytes.addAndGet(bytes);
+            statusCount(status != null ? status : "UPLOADED").addAndGet(documents);
+            AtomicLong[] uploader = byUploader.computeIfAbsent(
+                    uploadedBy != null ? uploadedBy : UNKNOWN_UPLOADER,
+                    key -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+            uploader[0].addAndGet(documents);
+            uploader[1].addAndGet(bytes);
+        }
+    }
+}
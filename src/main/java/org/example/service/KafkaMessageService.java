@@ -1,22 +1,59 @@
 package org.example.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.example.dto.DatapoolGenerationResponse;
+import org.example.dto.KafkaBatchItemResult;
+import org.example.dto.KafkaBatchResponse;
 import org.example.dto.KafkaMessageResponse;
 import org.example.dto.KafkaStatsResponse;
+import org.example.exception.ServiceUnavailableException;
+import org.example.messaging.MessageBuffer;
+import org.example.utils.MessageTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
  * Service layer for Kafka message operations.
@@ -27,112 +64,460 @@ public class KafkaMessageService {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaMessageService.class);
 
+    // Same limit as SendMessageRequest.payload
+    private static final int MAX_PAYLOAD_LENGTH = 10000;
+
+    private static final int SAMPLE_SIZE = 10;
+
+    private static final String LISTENER_ID = "messageBufferListener";
+
     private final KafkaTemplate<Long, String> kafkaTemplate;
-    private final ConcurrentLinkedQueue<String> messages = new ConcurrentLinkedQueue<>();
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private MessageBuffer messages;
+    private final AtomicBoolean listenerPaused = new AtomicBoolean();
     
-    // Statistics tracking
-    private volatile long totalSent = 0;
-    private volatile long totalConsumed = 0;
-    private volatile Instant lastMessageTimestamp;
+    // Statistics tracking; LongAdders, so concurrent senders and listener threads never lose updates
+    private final LongAdder totalSent = new LongAdder();
+    private final LongAdder totalConsumed = new LongAdder();
+    private final LongAdder totalFailed = new LongAdder();
+    // Long-poll requests of GET /api/getMessage?waitMs, woken by the listener
+    private final ConcurrentLinkedDeque<Waiter<?>> waiters = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    // Called after each consumed batch, e.g. to wake idle stream clients
+    private final List<Runnable> arrivalListeners = new CopyOnWriteArrayList<>();
+    private final RateSampler sentRate = new RateSampler(totalSent);
+    private final RateSampler consumedRate = new RateSampler(totalConsumed);
+    // Epoch millis, only written when the millisecond changes to keep the shared cache line quiet
+    private volatile long lastMessageAt;
+    private volatile long consumerLagMs = -1;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer sendLatency;
+    private final Timer sendFailureLatency;
+    private final Map<String, Counter> sendFailures = new ConcurrentHashMap<>();
 
     @Value("${spring.kafka.template.default-topic}")
     private String topicName;
 
+    @Value("${ltapp.kafka.ack-timeout-ms:10000}")
+    private long ackTimeoutMs;
+
+    @Value("${ltapp.kafka.buffer.capacity:100000}")
+    private int bufferCapacity;
+
+    @Value("${ltapp.kafka.buffer.overflow-policy:PAUSE}")
+    private MessageBuffer.OverflowPolicy bufferOverflowPolicy;
+
+    @Value("${ltapp.kafka.buffer.resume-ratio:0.5}")
+    private double bufferResumeRatio;
+
+    @Value("${ltapp.kafka.buffer.stripes:8}")
+    private int bufferStripes;
+
+    @Value("${ltapp.kafka.long-poll.max-wait-ms:30000}")
+    private long longPollMaxWaitMs;
+
+    @Value("${ltapp.kafka.long-poll.max-waiters:10000}")
+    private int longPollMaxWaiters;
+
+    @Value("${ltapp.kafka.batch-max-size:10000}")
+    private int batchMaxSize;
+
+    @Value("${ltapp.kafka.generate.max-in-flight:10000}")
+    private int generateMaxInFlight;
+
+    @Value("${ltapp.kafka.generate.max-threads:8}")
+    private int generateMaxThreads;
+
     @Autowired
-    public KafkaMessageService(KafkaTemplate<Long, String> kafkaTemplate) {
+    public KafkaMessageService(KafkaTemplate<Long, String> kafkaTemplate, MeterRegistry meterRegistry,
+                               KafkaListenerEndpointRegistry listenerRegistry) {
         this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.listenerRegistry = listenerRegistry;
+        this.sendLatency = sendTimer("success");
+        this.sendFailureLatency = sendTimer("failure");
+    }
+
+    @PostConstruct
+    public void init() {
+        messages = new MessageBuffer(bufferCapacity, bufferOverflowPolicy, bufferStripes);
+
+        Gauge.builder("ltapp.kafka.buffer.size", messages, MessageBuffer::size)
+                .description("Consumed messages waiting in the internal buffer")
+                .register(meterRegistry);
+        Gauge.builder("ltapp.kafka.buffer.capacity", messages, MessageBuffer::capacity)
+                .description("Capacity of the internal message buffer")
+                .register(meterRegistry);
+        Gauge.builder("ltapp.kafka.buffer.paused", listenerPaused, paused -> paused.get() ? 1 : 0)
+                .description("1 while the listener is paused because the buffer is full")
+                .register(meterRegistry);
+        Gauge.builder("ltapp.kafka.long-poll.waiters", waiterCount, AtomicInteger::get)
+                .description("Requests waiting in GET /api/getMessage?waitMs for a message")
+                .register(meterRegistry);
+        FunctionCounter.builder("ltapp.kafka.messages", totalSent, LongAdder::sum)
+                .description("Messages sent to or consumed from Kafka")
+                .tag("direction", "sent")
+                .register(meterRegistry);
+        FunctionCounter.builder("ltapp.kafka.messages", totalConsumed, LongAdder::sum)
+                .description("Messages sent to or consumed from Kafka")
+                .tag("direction", "consumed")
+                .register(meterRegistry);
+        Gauge.builder("ltapp.kafka.messages.rate", sentRate, RateSampler::perSecond)
+                .description("Messages per second over the last sampling interval")
+                .tag("direction", "sent")
+                .register(meterRegistry);
+        Gauge.builder("ltapp.kafka.messages.rate", consumedRate, RateSampler::perSecond)
+                .description("Messages per second over the last sampling interval")
+                .tag("direction", "consumed")
+                .register(meterRegistry);
+        TimeGauge.builder("ltapp.kafka.consumer.lag", this, TimeUnit.MILLISECONDS,
+                        service -> Math.max(0, service.consumerLagMs))
+                .description("Time from record timestamp to arrival in the buffer, for the last consumed record")
+                .register(meterRegistry);
+        FunctionCounter.builder("ltapp.kafka.buffer.dropped", messages, MessageBuffer::droppedCount)
+                .description("Consumed messages dropped because the buffer was full")
+                .tag("policy", bufferOverflowPolicy.name())
+                .register(meterRegistry);
+        logger.info("Message buffer: capacity={}, overflowPolicy={}", bufferCapacity, bufferOverflowPolicy);
+    }
+
+    private Timer sendTimer(String result) {
+        return Timer.builder("ltapp.kafka.send.latency")
+                .description("Time from send to broker acknowledgement (or failure)")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
-     * Send a message to Kafka topic.
+     * Send a message to Kafka topic without waiting for the broker.
+     * Delivery is tracked by the completion callback (latency and failure metrics).
      */
     public KafkaMessageResponse sendMessage(String payload) {
-        if (payload == null || payload.isEmpty()) {
-            throw new IllegalArgumentException("Message payload cannot be empty");
+        validatePayload(payload);
+
+        String messageId = UUID.randomUUID().toString();
+        send(messageId, payload);
+        logger.info("Message sent to Kafka: id={}, topic={}, length={}", messageId, topicName, payload.length());
+
+        return new KafkaMessageResponse(
+                messageId,
+                payload,
+                payload.length(),
+                "ENQUEUED",
+                topicName,
+                Instant.now()
+        );
+    }
+
+    /**
+     * Send a message to Kafka topic and complete once the broker has acknowledged it.
+     * Fails with ServiceUnavailableException if the send fails or the ack takes longer than the timeout.
+     */
+    public CompletableFuture<KafkaMessageResponse> sendMessageAcknowledged(String payload) {
+        validatePayload(payload);
+
+        String messageId = UUID.randomUUID().toString();
+        logger.info("Message sent to Kafka with ack: id={}, topic={}, length={}", messageId, topicName, payload.length());
+        // Time out a copy, so the send metrics still record the real broker outcome
+        return send(messageId, payload).copy()
+                .orTimeout(ackTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        throw new ServiceUnavailableException("Kafka send not acknowledged: " + failureCause(cause), cause);
+                    }
+                    RecordMetadata metadata = result.getRecordMetadata();
+                    return new KafkaMessageResponse(
+                            messageId,
+                            payload,
+                            payload.length(),
+                            "ACKNOWLEDGED",
+                            metadata.topic(),
+                            Instant.now(),
+                            metadata.partition(),
+                            metadata.offset()
+                    );
+                });
+    }
+
+    /**
+     * Send a batch of messages. All records are handed to the producer without waiting (so they are
+     * batched and pipelined by the producer), then the acknowledgements are collected.
+     * Invalid payloads and failed sends are reported per message and don't fail the batch.
+     *
+     * @param payloads payloads (may be backed by a streamed request body); read completely before the
+     *                 first send, so a too large or malformed batch is rejected without sending anything
+     */
+    public CompletableFuture<KafkaBatchResponse> sendBatch(Iterator<String> payloads) {
+        long start = System.nanoTime();
+        List<String> batch = new ArrayList<>();
+        while (payloads.hasNext()) {
+            if (batch.size() >= batchMaxSize) {
+                throw new IllegalArgumentException("Batch must not exceed " + batchMaxSize + " messages");
+            }
+            batch.add(payloads.next());
         }
 
-        try {
+        List<String> messageIds = new ArrayList<>(batch.size());
+        List<CompletableFuture<SendResult<Long, String>>> futures = new ArrayList<>(batch.size());
+        for (String payload : batch) {
             String messageId = UUID.randomUUID().toString();
-            kafkaTemplate.send(topicName, payload);
-            
-            totalSent++;
-            lastMessageTimestamp = Instant.now();
+            CompletableFuture<SendResult<Long, String>> future;
+            if (payload == null || payload.isBlank()) {
+                future = CompletableFuture.failedFuture(new IllegalArgumentException("Message payload is required"));
+            } else if (payload.length() > MAX_PAYLOAD_LENGTH) {
+                future = CompletableFuture.failedFuture(new IllegalArgumentException(
+                        "Message payload must not exceed " + MAX_PAYLOAD_LENGTH + " characters"));
+            } else {
+                try {
+                    future = send(messageId, payload);
+                } catch (ServiceUnavailableException e) {
+                    future = CompletableFuture.failedFuture(e.getCause() != null ? e.getCause() : e);
+                }
+            }
+            messageIds.add(messageId);
+            futures.add(future);
+        }
+        logger.info("Message batch sent to Kafka: topic={}, messages={}", topicName, futures.size());
 
-            logger.info("Message sent to Kafka: id={}, topic={}, length={}",
-                    messageId, topicName, payload.length());
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .orTimeout(ackTimeoutMs, TimeUnit.MILLISECONDS)
+                // Failures are reported per message below
+                .handle((ignored, ex) -> {
+                    List<KafkaBatchItemResult> results = new ArrayList<>(futures.size());
+                    int acknowledged = 0;
+                    for (int i = 0; i < futures.size(); i++) {
+                        KafkaBatchItemResult result = toBatchResult(i, messageIds.get(i), futures.get(i));
+                        if ("ACKNOWLEDGED".equals(result.getStatus())) {
+                            acknowledged++;
+                        }
+                        results.add(result);
+                    }
+                    return new KafkaBatchResponse(
+                            futures.size(),
+                            acknowledged,
+                            futures.size() - acknowledged,
+                            topicName,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            results
+                    );
+                });
+    }
 
-            return new KafkaMessageResponse(
-                    messageId,
-                    payload,
-                    payload.length(),
-                    "ENQUEUED",
-                    topicName,
-                    Instant.now()
-            );
-        } catch (KafkaException e) {
-            logger.error("Failed to send message to Kafka", e);
-            throw new RuntimeException("Failed to send message: " + e.getMessage(), e);
+    private static KafkaBatchItemResult toBatchResult(int index, String messageId,
+                                                      CompletableFuture<SendResult<Long, String>> future) {
+        if (!future.isDone()) {
+            return new KafkaBatchItemResult(index, messageId, "FAILED", null, null, "Not acknowledged in time");
+        }
+        try {
+            RecordMetadata metadata = future.join().getRecordMetadata();
+            return new KafkaBatchItemResult(index, messageId, "ACKNOWLEDGED",
+                    metadata.partition(), metadata.offset(), null);
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            String error = cause instanceof IllegalArgumentException ? cause.getMessage() : failureCause(cause);
+            return new KafkaBatchItemResult(index, messageId, "FAILED", null, null, error);
+        }
+    }
+
+    private CompletableFuture<SendResult<Long, String>> send(String messageId, String payload) {
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<Long, String>> future;
+        try {
+            future = kafkaTemplate.send(topicName, payload);
+        } catch (RuntimeException e) {
+            // Thrown before the record reached the producer (e.g. serialization, closed producer);
+            // KafkaTemplate does not wrap these, so Apache Kafka and IllegalStateException arrive as is
+            recordFailure(messageId, start, e);
+            throw new ServiceUnavailableException("Failed to send message: " + e.getMessage(), e);
+        }
+
+        totalSent.increment();
+        touchLastMessage();
+        logger.debug("Message sent to Kafka: id={}, topic={}, length={}", messageId, topicName, payload.length());
+
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } else {
+                recordFailure(messageId, start, ex);
+            }
+        });
+        return future;
+    }
+
+    private void recordFailure(String messageId, long start, Throwable ex) {
+        totalFailed.increment();
+        String cause = failureCause(ex);
+        sendFailureLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        sendFailures.computeIfAbsent(cause, key -> Counter.builder("ltapp.kafka.send.failures")
+                .description("Kafka sends that were not acknowledged, by cause")
+                .tag("cause", key)
+                .register(meterRegistry))
+                .increment();
+        logger.warn("Kafka send failed: id={}, topic={}, cause={}", messageId, topicName, cause);
+    }
+
+    /**
+     * Innermost exception class name, e.g. TimeoutException or RecordTooLargeException
+     * (bounded set, usable as metric tag).
+     */
+    private static String failureCause(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getClass().getSimpleName();
+    }
+
+    private static void validatePayload(String payload) {
+        if (payload == null || payload.isEmpty()) {
+            throw new IllegalArgumentException("Message payload cannot be empty");
         }
     }
 
     public KafkaMessageResponse getNextMessage() {
         String msg = messages.poll(); // именно poll(), он забирает и удаляет
+        resumeListenerIfDrained();
         if (msg == null) {
             throw new org.example.exception.EntityNotFoundException("No messages available in queue");
         }
-        return new KafkaMessageResponse(
-            UUID.randomUUID().toString(),
-            msg,
-            msg.length(),
-            "RETRIEVED",
-            topicName,
-            Instant.now()
-        );
+        return retrieved(msg);
     }
 
     /**
-     * Get a random message from the internal queue.
+     * Long-poll variant of getNextMessage(): the result completes with the next message, or with
+     * EntityNotFoundException after waitMs. Waiting holds no request thread; the listener hands
+     * arriving messages to the waiters in arrival order.
+     *
+     * @param mapper converts the message into the result type of the caller
      */
-    public KafkaMessageResponse getRandomMessageFromQueue() {
-        if (messages.isEmpty()) {
+    public <T> DeferredResult<T> awaitNextMessage(long waitMs, Function<KafkaMessageResponse, T> mapper) {
+        if (waitMs < 0 || waitMs > longPollMaxWaitMs) {
+            throw new IllegalArgumentException("waitMs must be between 0 and " + longPollMaxWaitMs);
+        }
+        DeferredResult<T> result = new DeferredResult<>(waitMs > 0 ? waitMs : null);
+        String msg = messages.poll();
+        if (msg != null) {
+            resumeListenerIfDrained();
+            result.setResult(mapper.apply(retrieved(msg)));
+            return result;
+        }
+        if (waitMs == 0) {
             throw new org.example.exception.EntityNotFoundException("No messages available in queue");
         }
+        if (waiterCount.incrementAndGet() > longPollMaxWaiters) {
+            waiterCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many waiting requests, retry later");
+        }
 
-        // Thread-safe random selection
-        Iterator<String> iterator = messages.iterator();
-        String randomMessage = null;
-        Random random = new Random();
-        int count = 0;
-        int selectedIndex = 0;
-
-        while (iterator.hasNext()) {
-            String message = iterator.next();
-            count++;
-            if (random.nextInt(count) == 0) {
-                randomMessage = message;
-                selectedIndex = count - 1;
+        Waiter<T> waiter = new Waiter<>(result, mapper);
+        result.onTimeout(() -> result.setErrorResult(
+                new org.example.exception.EntityNotFoundException("No messages available in queue")));
+        result.onCompletion(() -> {
+            // Delivered waiters were already popped; only timed out ones still need the (linear) remove.
+            // If wakeWaiters puts a popped waiter back meanwhile, its next run drops it as expired
+            if (!waiter.polled.get()) {
+                waiters.remove(waiter);
             }
+            waiterCount.decrementAndGet();
+        });
+        waiters.offerLast(waiter);
+        // A message may have arrived between the poll above and the registration
+        wakeWaiters();
+        return result;
+    }
+
+    /**
+     * Remove up to max messages from the internal queue (approximately FIFO).
+     */
+    public List<String> pollMessages(int max) {
+        List<String> polled = new ArrayList<>(Math.min(max, 1024));
+        String msg;
+        while (polled.size() < max && (msg = messages.poll()) != null) {
+            polled.add(msg);
         }
+        // Also when empty: a stream-only deployment has no other reader that would resume the listener
+        resumeListenerIfDrained();
+        return polled;
+    }
 
-        if (randomMessage == null) {
-            throw new org.example.exception.EntityNotFoundException("Failed to retrieve random message");
+    /**
+     * Put messages that were polled but not delivered back into the internal queue.
+     */
+    public void requeueMessages(List<String> undelivered) {
+        if (!undelivered.isEmpty()) {
+            messages.offerAll(undelivered);
+            if (!waiters.isEmpty()) {
+                wakeWaiters();
+            }
         }
+    }
 
-        boolean removed = messages.remove(randomMessage);
-        if (!removed) {
-        throw new org.example.exception.EntityNotFoundException("Failed to retrieve random message");
+    /**
+     * Register a callback run on the listener thread after each consumed batch. Must not block.
+     */
+    public void addArrivalListener(Runnable listener) {
+        arrivalListeners.add(listener);
+    }
+
+    /**
+     * Get a random message from the internal queue.
+     */
+    public KafkaMessageResponse getRandomMessageFromQueue() {
+        // O(1) random removal, see StripedRingBag
+        String randomMessage = messages.pollRandom();
+        resumeListenerIfDrained();
+        if (randomMessage == null) {
+            throw new org.example.exception.EntityNotFoundException("No messages available in queue");
         }
+        return retrieved(randomMessage);
+    }
 
+    private KafkaMessageResponse retrieved(String message) {
         return new KafkaMessageResponse(
                 UUID.randomUUID().toString(), // Generate ID for response
-                randomMessage,
-                randomMessage.length(),
+                message,
+                message.length(),
                 "RETRIEVED",
                 topicName,
                 Instant.now()
         );
     }
 
+    /**
+     * Hand buffered messages to long-poll waiters, oldest waiter first.
+     */
+    private void wakeWaiters() {
+        String msg = null;
+        Waiter<?> waiter;
+        while ((waiter = waiters.pollFirst()) != null) {
+            waiter.polled.set(true);
+            if (waiter.result.isSetOrExpired()) {
+                continue;
+            }
+            if (msg == null && (msg = messages.poll()) == null) {
+                waiter.polled.set(false);
+                waiters.offerFirst(waiter);
+                // Re-check: the listener may have skipped waking while this waiter was out of the deque
+                if (messages.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            if (waiter.deliver(retrieved(msg))) {
+                msg = null;
+            }
+        }
+        if (msg != null) {
+            // Every waiter expired meanwhile, keep the message for the next reader
+            messages.offer(msg);
+        }
+        resumeListenerIfDrained();
+    }
+
     /**
      * Get the current queue size.
      */
@@ -144,46 +529,130 @@ public class KafkaMessageService {
      * Get Kafka message statistics.
      */
     public KafkaStatsResponse getStats() {
+        long lastAt = lastMessageAt;
+        long lag = consumerLagMs;
         return new KafkaStatsResponse(
-                totalSent,
-                totalConsumed,
+                totalSent.sum(),
+                totalConsumed.sum(),
                 messages.size(),
-                lastMessageTimestamp
+                lastAt > 0 ? Instant.ofEpochMilli(lastAt) : null,
+                totalFailed.sum(),
+                messages.droppedCount(),
+                sentRate.perSecond(),
+                consumedRate.perSecond(),
+                lag >= 0 ? lag : null
         );
     }
 
     /**
-     * Generate multiple messages for datapool.
+     * Update the per-second rates from the counters.
+     */
+    @Scheduled(fixedRateString = "${ltapp.kafka.stats.rate-interval-ms:5000}")
+    public void sampleRates() {
+        long now = System.nanoTime();
+        sentRate.sample(now);
+        consumedRate.sample(now);
+    }
+
+    private void touchLastMessage() {
+        long now = System.currentTimeMillis();
+        if (now != lastMessageAt) {
+            lastMessageAt = now;
+        }
+    }
+
+    /**
+     * Generate messages for datapool and send them to Kafka.
+     * Payloads are rendered from a precompiled template and sent without being kept; at most
+     * ltapp.kafka.generate.max-in-flight sends are unacknowledged at a time, which bounds memory
+     * for any count. With threads > 1 the index range is split over several sending threads.
      */
-    public List<String> generateMessages(int count, String pattern) {
-        List<String> generatedMessages = new java.util.ArrayList<>();
-        Random random = new Random();
+    public DatapoolGenerationResponse generateMessages(int count, String pattern, int threads) {
+        if (threads < 1 || threads > generateMaxThreads) {
+            throw new IllegalArgumentException("threads must be between 1 and " + generateMaxThreads);
+        }
 
-        for (int i = 0; i < count; i++) {
-            String payload = pattern.replace("{index}", String.valueOf(i))
-                    .replace("{random}", String.valueOf(random.nextInt(10000)));
-            
-            // Send to Kafka
-            try {
-                kafkaTemplate.send(topicName, payload);
-                totalSent++;
-                generatedMessages.add(payload);
-            } catch (Exception e) {
-                logger.warn("Failed to send generated message: {}", e.getMessage());
+        MessageTemplate template = MessageTemplate.compile(pattern);
+        Semaphore inFlight = new Semaphore(generateMaxInFlight);
+        LongAdder acknowledged = new LongAdder();
+        LongAdder failed = new LongAdder();
+        String[] samples = new String[Math.min(SAMPLE_SIZE, count)];
+        long start = System.nanoTime();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "message-generator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> tasks = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                long from = (long) count * t / threads;
+                long to = (long) count * (t + 1) / threads;
+                tasks.add(executor.submit(() -> generateRange(from, to, template, inFlight, acknowledged, failed, samples)));
             }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            // Wait until every send is acknowledged or failed
+            if (!inFlight.tryAcquire(generateMaxInFlight, ackTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.warn("Message generation: not all sends acknowledged within {} ms", ackTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Message generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ServiceUnavailableException("Message generation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
 
-        lastMessageTimestamp = Instant.now();
-        logger.info("Generated {} messages with pattern: {}", count, pattern);
-        return generatedMessages;
+        long durationNanos = System.nanoTime() - start;
+        int created = acknowledged.intValue();
+        touchLastMessage();
+        logger.info("Generated {} messages with pattern: {} (acknowledged={}, failed={}, threads={}, {} ms)",
+                count, pattern, created, failed.intValue(), threads, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+        DatapoolGenerationResponse response = new DatapoolGenerationResponse(
+                "MESSAGES",
+                count,
+                created,
+                pattern,
+                IntStream.range(0, samples.length).boxed().toList()
+        );
+        response.setFailedCount(failed.intValue());
+        response.setDurationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        response.setPerSecond(durationNanos > 0 ? created * 1_000_000_000.0 / durationNanos : null);
+        response.setSamplePayloads(Arrays.asList(samples));
+        return response;
+    }
+
+    private void generateRange(long from, long to, MessageTemplate template, Semaphore inFlight,
+                               LongAdder acknowledged, LongAdder failed, String[] samples) {
+        for (long i = from; i < to; i++) {
+            String payload = template.render(i);
+            if (i < samples.length) {
+                samples[(int) i] = payload;
+            }
+            inFlight.acquireUninterruptibly();
+            try {
+                send(UUID.randomUUID().toString(), payload).whenComplete((result, ex) -> {
+                    (ex == null ? acknowledged : failed).increment();
+                    inFlight.release();
+                });
+            } catch (ServiceUnavailableException e) {
+                failed.increment();
+                inFlight.release();
+            }
+        }
     }
 
     /**
      * Get messages for datapool (lightweight list).
      */
     public List<org.example.dto.KafkaMessagePreview> getMessagesForDatapool(Integer limit) {
-        return messages.stream()
-                .limit(limit != null ? limit : 100)
+        return messages.peek(limit != null ? limit : 100).stream()
                 .map(msg -> new org.example.dto.KafkaMessagePreview(
                         UUID.randomUUID().toString(),
                         msg.length() > 50 ? msg.substring(0, 50) + "..." : msg,
@@ -193,15 +662,122 @@ public class KafkaMessageService {
     }
 
     /**
-     * Kafka listener that stores messages in the internal queue.
+     * Kafka batch listener that stores each poll in the internal queue in one operation.
+     * Concurrency, max.poll.records and fetch sizes come from spring.kafka.listener/consumer.
      */
-    @KafkaListener(topics = "${spring.kafka.template.default-topic}", 
+    @KafkaListener(id = LISTENER_ID, idIsGroup = false, batch = "true",
+                   topics = "${spring.kafka.template.default-topic}",
                    groupId = "${spring.kafka.consumer.group-id}")
-    public void listen(String message) {
-        messages.add(message);
-        totalConsumed++;
-        lastMessageTimestamp = Instant.now();
-        logger.debug("Message received and queued: length={}", message.length());
+    public void listen(List<ConsumerRecord<String, String>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<String> batch = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.value() != null) {
+                batch.add(record.value());
+            }
+        }
+        totalConsumed.add(batch.size());
+        touchLastMessage();
+        long lag = lastMessageAt - records.get(records.size() - 1).timestamp();
+        if (lag != consumerLagMs) {
+            consumerLagMs = lag;
+        }
+        int queued = messages.offerAll(batch);
+        logger.debug("Message batch received: records={}, queued={}", batch.size(), queued);
+        if (!waiters.isEmpty()) {
+            wakeWaiters();
+        }
+        arrivalListeners.forEach(Runnable::run);
+
+        // The container pauses before the next poll, so PAUSE overshoots capacity by at most one batch per consumer
+        if (messages.policy() == MessageBuffer.OverflowPolicy.PAUSE && messages.isFull()) {
+            pauseListenerIfFull();
+            // Readers may have drained the buffer before the flag was set, seeing nothing to resume
+            resumeListenerIfDrained();
+        }
     }
-}
 
+    /**
+     * Pause and resume run under one lock (both only set a flag on the container), so a resume
+     * can never be overtaken by an earlier pause decision.
+     */
+    private void pauseListenerIfFull() {
+        synchronized (listenerPaused) {
+            if (listenerPaused.get() || !messages.isFull()) {
+                return;
+            }
+            listenerPaused.set(true);
+            MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+            if (container != null) {
+                container.pause();
+            }
+        }
+        logger.info("Message buffer full ({} messages), listener paused", messages.size());
+    }
+
+    private void resumeListenerIfDrained() {
+        if (!listenerPaused.get() || messages.size() > messages.capacity() * bufferResumeRatio) {
+            return;
+        }
+        synchronized (listenerPaused) {
+            if (!listenerPaused.get() || messages.size() > messages.capacity() * bufferResumeRatio) {
+                return;
+            }
+            listenerPaused.set(false);
+            MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+            if (container != null) {
+                container.resume();
+            }
+        }
+        logger.info("Message buffer drained ({} messages), listener resumed", messages.size());
+    }
+
+    /**
+     * Pending long-poll request with the conversion to its response type.
+     */
+    private static final class Waiter<T> {
+        private final DeferredResult<T> result;
+        private final Function<KafkaMessageResponse, T> mapper;
+        // Set while taken out of the deque by wakeWaiters
+        private final AtomicBoolean polled = new AtomicBoolean();
+
+        Waiter(DeferredResult<T> result, Function<KafkaMessageResponse, T> mapper) {
+            this.result = result;
+            this.mapper = mapper;
+        }
+
+        boolean deliver(KafkaMessageResponse response) {
+            return result.setResult(mapper.apply(response));
+        }
+    }
+
+    /**
+     * Per-second rate of a counter between the last two samples.
+     */
+    private static class RateSampler {
+        private final LongAdder counter;
+        private long lastCount;
+        private long lastSampleNanos = System.nanoTime();
+        private volatile double perSecond;
+
+        RateSampler(LongAdder counter) {
+            this.counter = counter;
+        }
+
+        synchronized void sample(long nowNanos) {
+            long count = counter.sum();
+            long elapsed = nowNanos - lastSampleNanos;
+            if (elapsed > 0) {
+                perSecond = (count - lastCount) * 1_000_000_000.0 / elapsed;
+            }
+            lastCount = count;
+            lastSampleNanos = nowNanos;
+        }
+
+        double perSecond() {
+            return perSecond;
+        }
+    }
+}
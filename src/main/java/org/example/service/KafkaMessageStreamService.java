@@ -0,0 +1,271 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.dto.KafkaStreamMessage;
+import org.example.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams consumed Kafka messages to long-lived HTTP connections (SSE or NDJSON).
+ * Each client has a writer thread that takes up to client-buffer messages from the internal queue,
+ * writes them with a single flush and repeats, so a connection drains the queue as fast as the client
+ * reads. Streamed messages are removed from the queue, like GET /api/getMessage.
+ * A client holds at most one batch; if it fails or is too slow to take a batch, the batch goes back
+ * to the queue for other readers. The batch and the client slot stay with the writer until its write has
+ * returned or failed; a client that stops reading is cut off by the socket write timeout
+ * (server.tomcat.connection-timeout, set to slow-client-timeout-ms).
+ */
+@Service
+public class KafkaMessageStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaMessageStreamService.class);
+
+    // Used for encoding only, the response content type is set when the stream starts
+    private static final MediaType TEXT_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    public enum StreamFormat {
+        SSE,
+        NDJSON
+    }
+
+    private final KafkaMessageService kafkaMessageService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger clientCount = new AtomicInteger();
+    private ExecutorService writers;
+    private Counter streamedCounter;
+    private Counter slowClientCounter;
+
+    @Value("${ltapp.kafka.stream.max-clients:100}")
+    private int maxClients;
+
+    @Value("${ltapp.kafka.stream.client-buffer:1000}")
+    private int clientBuffer;
+
+    @Value("${ltapp.kafka.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${ltapp.kafka.stream.slow-client-timeout-ms:5000}")
+    private long slowClientTimeoutMs;
+
+    @Autowired
+    public KafkaMessageStreamService(KafkaMessageService kafkaMessageService, ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.kafkaMessageService = kafkaMessageService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        // Platform threads: ResponseBodyEmitter writes inside synchronized methods
+        AtomicInteger threadNumber = new AtomicInteger();
+        writers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "message-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        kafkaMessageService.addArrivalListener(() -> subscribers.forEach(Subscriber::signal));
+
+        Gauge.builder("ltapp.kafka.stream.clients", clientCount, AtomicInteger::get)
+                .description("Open GET /api/messages/stream connections")
+                .register(meterRegistry);
+        streamedCounter = Counter.builder("ltapp.kafka.stream.messages")
+                .description("Messages delivered through GET /api/messages/stream")
+                .register(meterRegistry);
+        slowClientCounter = Counter.builder("ltapp.kafka.stream.slow.disconnects")
+                .description("Stream clients disconnected for reading too slowly")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(Subscriber::stop);
+        writers.shutdownNow();
+    }
+
+    /**
+     * Open a stream of consumed messages.
+     *
+     * @param limit complete the stream after this many messages, 0 for no limit
+     */
+    public ResponseBodyEmitter subscribe(StreamFormat format, long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        if (clientCount.incrementAndGet() > maxClients) {
+            clientCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many stream clients, retry later");
+        }
+
+        // No async timeout, the stream ends when the client disconnects or the limit is reached
+        ResponseBodyEmitter emitter = format == StreamFormat.SSE ? new SseEmitter(0L) : new ResponseBodyEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter, format, limit);
+        emitter.onCompletion(subscriber::stop);
+        emitter.onTimeout(subscriber::stop);
+        emitter.onError(ex -> subscriber.stop());
+        subscribers.add(subscriber);
+        writers.execute(subscriber);
+        logger.info("Message stream opened: format={}, limit={}, clients={}", format, limit, clientCount.get());
+        return emitter;
+    }
+
+    /**
+     * One streaming connection and its writer loop.
+     */
+    private final class Subscriber implements Runnable {
+        private final ResponseBodyEmitter emitter;
+        private final StreamFormat format;
+        private final long limit;
+        private final Semaphore signal = new Semaphore(0);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private long sequence;
+
+        Subscriber(ResponseBodyEmitter emitter, StreamFormat format, long limit) {
+            this.emitter = emitter;
+            this.format = format;
+            this.limit = limit;
+        }
+
+        @Override
+        public void run() {
+            List<String> batch = List.of();
+            try {
+                while (!closed.get()) {
+                    int max = limit > 0 ? (int) Math.min(clientBuffer, limit - sequence) : clientBuffer;
+                    batch = kafkaMessageService.pollMessages(max);
+                    if (batch.isEmpty()) {
+                        if (!signal.tryAcquire(heartbeatMs, TimeUnit.MILLISECONDS)) {
+                            // Keeps proxies from closing the idle connection and detects disconnected clients
+                            write(format == StreamFormat.SSE ? ":keepalive\n\n" : "\n");
+                        }
+                        signal.drainPermits();
+                        continue;
+                    }
+
+                    long start = System.nanoTime();
+                    write(encode(batch));
+                    streamedCounter.increment(batch.size());
+                    batch = List.of();
+                    if (limit > 0 && sequence >= limit) {
+                        complete();
+                    } else if (System.nanoTime() - start > TimeUnit.MILLISECONDS.toNanos(slowClientTimeoutMs)) {
+                        // Still reading, but too slowly to keep up
+                        disconnectSlowClient();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or emitter completed; the batch may be partially delivered (at-least-once)
+                if (isWriteTimeout(e)) {
+                    slowClientCounter.increment();
+                    logger.warn("Message stream client stopped reading, disconnected after {} messages", sequence);
+                } else {
+                    logger.debug("Message stream write failed after {} messages: {}", sequence, e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                kafkaMessageService.requeueMessages(batch);
+                release();
+            }
+        }
+
+        private String encode(List<String> batch) throws JsonProcessingException {
+            StringBuilder text = new StringBuilder(batch.size() * 64);
+            for (String message : batch) {
+                long id = ++sequence;
+                String json = objectMapper.writeValueAsString(new KafkaStreamMessage(id, message));
+                if (format == StreamFormat.SSE) {
+                    text.append("id:").append(id).append("\nevent:message\ndata:").append(json).append("\n\n");
+                } else {
+                    text.append(json).append('\n');
+                }
+            }
+            return text.toString();
+        }
+
+        private void write(String text) throws IOException {
+            if (closed.get()) {
+                throw new IllegalStateException("Stream closed");
+            }
+            // One item, so the whole batch is written with a single flush
+            emitter.send(Set.of(new ResponseBodyEmitter.DataWithMediaType(text, TEXT_UTF8)));
+        }
+
+        private boolean isWriteTimeout(Throwable e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof SocketTimeoutException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void disconnectSlowClient() {
+            slowClientCounter.increment();
+            logger.warn("Message stream client too slow, disconnecting after {} messages", sequence);
+            complete();
+        }
+
+        void signal() {
+            if (signal.availablePermits() == 0) {
+                signal.release();
+            }
+        }
+
+        void complete() {
+            if (!closed.get()) {
+                emitter.complete();
+            }
+            stop();
+        }
+
+        /**
+         * Ask the writer to stop. May be called from any thread (container callbacks, shutdown);
+         * the writer releases the client slot once its current write has returned.
+         */
+        void stop() {
+            if (closed.compareAndSet(false, true)) {
+                signal.release();
+            }
+        }
+
+        /**
+         * Called by the writer thread when it exits.
+         */
+        private void release() {
+            stop();
+            subscribers.remove(this);
+            clientCount.decrementAndGet();
+            logger.info("Message stream closed after {} messages, clients={}", sequence, clientCount.get());
+        }
+    }
+}
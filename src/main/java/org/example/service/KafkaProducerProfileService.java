@@ -0,0 +1,129 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.example.config.KafkaProducerProperties;
+import org.example.dto.KafkaProducerProfileResponse;
+import org.example.exception.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Applies Kafka producer tuning profiles (ltapp.kafka.producer.profiles) to the producer factory.
+ * Switching closes the shared producer after flushing pending records; the next send creates a
+ * producer with the new settings. Producer metrics are bound to Micrometer by Spring Boot
+ * (kafka.producer.*), so the effect of a switch is visible in Prometheus.
+ */
+@Service
+public class KafkaProducerProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaProducerProfileService.class);
+
+    public static final String DEFAULT_PROFILE = "default";
+
+    // Producer metrics shown in the profile response
+    private static final Set<String> SUMMARY_METRICS = Set.of(
+            "record-send-rate", "batch-size-avg", "records-per-request-avg", "compression-rate-avg",
+            "request-latency-avg", "record-queue-time-avg", "record-error-rate");
+
+    private final ProducerFactory<Long, String> producerFactory;
+    private final KafkaTemplate<Long, String> kafkaTemplate;
+    private final KafkaProducerProperties properties;
+
+    // spring.kafka.producer.* settings, restored when a profile no longer overrides them
+    private Map<String, Object> baseConfig;
+    private volatile String activeProfile = DEFAULT_PROFILE;
+
+    @Autowired
+    public KafkaProducerProfileService(ProducerFactory<Long, String> producerFactory,
+                                       KafkaTemplate<Long, String> kafkaTemplate,
+                                       KafkaProducerProperties properties) {
+        this.producerFactory = producerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void init() {
+        baseConfig = new HashMap<>(producerFactory.getConfigurationProperties());
+        applyProfile(properties.getProfile());
+    }
+
+    /**
+     * Get the active profile, its settings and current producer metrics.
+     */
+    public KafkaProducerProfileResponse getProfile() {
+        String profile = activeProfile;
+        return new KafkaProducerProfileResponse(
+                profile,
+                availableProfiles(),
+                new TreeMap<>(profileSettings(profile)),
+                producerMetrics()
+        );
+    }
+
+    /**
+     * Switch the producer to another profile.
+     */
+    public KafkaProducerProfileResponse switchProfile(String profile) {
+        applyProfile(profile);
+        return getProfile();
+    }
+
+    private synchronized void applyProfile(String profile) {
+        if (!availableProfiles().contains(profile)) {
+            throw new EntityNotFoundException("Kafka producer profile not found: " + profile);
+        }
+
+        // Undo the previous profile, then apply the new one
+        for (String key : profileSettings(activeProfile).keySet()) {
+            if (baseConfig.containsKey(key)) {
+                producerFactory.updateConfigs(Map.of(key, baseConfig.get(key)));
+            } else {
+                producerFactory.removeConfig(key);
+            }
+        }
+        producerFactory.updateConfigs(new HashMap<>(profileSettings(profile)));
+        producerFactory.reset();
+        activeProfile = profile;
+
+        logger.info("Kafka producer profile applied: profile={}, settings={}", profile, profileSettings(profile));
+    }
+
+    private List<String> availableProfiles() {
+        List<String> profiles = new ArrayList<>();
+        profiles.add(DEFAULT_PROFILE);
+        properties.getProfiles().keySet().stream()
+                .filter(name -> !name.equals(DEFAULT_PROFILE))
+                .forEach(profiles::add);
+        return profiles;
+    }
+
+    private Map<String, String> profileSettings(String profile) {
+        return properties.getProfiles().getOrDefault(profile, Map.of());
+    }
+
+    private Map<String, Double> producerMetrics() {
+        Map<String, Double> metrics = new TreeMap<>();
+        for (Map.Entry<MetricName, ? extends Metric> entry : kafkaTemplate.metrics().entrySet()) {
+            MetricName name = entry.getKey();
+            if ("producer-metrics".equals(name.group()) && SUMMARY_METRICS.contains(name.name())
+                    && entry.getValue().metricValue() instanceof Double value) {
+                metrics.put(name.name(), value.isNaN() ? null : value);
+            }
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.service;
+
+import org.example.database.entity.RefreshTokenEntity;
+import org.example.database.entity.UserEntity;
+import org.example.database.repository.RefreshTokenRepository;
+import org.example.exception.EntityNotFoundException;
+import org.example.security.TokenHashes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Service for opaque refresh tokens.
+ * Tokens are random 256-bit values; only their SHA-256 is stored. Every refresh consumes the
+ * presented token and issues a new one (rotation), so a token can be used exactly once.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${ltapp.auth.refresh-token.expiration:604800}") // Default: 7 days, in seconds
+    private long expirationSeconds;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * Issue a new refresh token for a user.
+     *
+     * @return the raw token, to be handed to the client once
+     */
+    @Transactional
+    public String issue(Integer userId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant expiresAt = Instant.now().plusSeconds(expirationSeconds);
+        refreshTokenRepository.save(new RefreshTokenEntity(TokenHashes.sha256Hex(token), userId, expiresAt));
+        return token;
+    }
+
+    /**
+     * Validate and consume a refresh token.
+     *
+     * @return the owner of the token
+     * @throws EntityNotFoundException if the token is unknown, expired or already used
+     */
+    @Transactional
+    public UserEntity consume(String token) {
+        String tokenHash = TokenHashes.sha256Hex(token);
+        UserEntity user = refreshTokenRepository.findUserByValidToken(tokenHash, Instant.now())
+                .orElseThrow(() -> new EntityNotFoundException("Invalid or expired refresh token"));
+
+        // Only one of several concurrent refreshes with the same token gets to delete it
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw new EntityNotFoundException("Invalid or expired refresh token");
+        }
+        return user;
+    }
+
+    /**
+     * Revoke a refresh token.
+     *
+     * @return true if the token existed
+     */
+    @Transactional
+    public boolean revoke(String token) {
+        return refreshTokenRepository.deleteByTokenHash(TokenHashes.sha256Hex(token)) > 0;
+    }
+
+    /**
+     * Remove expired refresh tokens.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${ltapp.auth.refresh-token.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    /**
+     * Get refresh token lifetime in seconds.
+     */
+    public long getExpirationSeconds() {
+        return expirationSeconds;
+    }
+}
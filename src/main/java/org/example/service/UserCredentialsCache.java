@@ -0,0 +1,137 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.database.entity.UserEntity;
+import org.example.database.repository.UserRepository;
+import org.example.utils.BoundedTtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-based cache of login credentials (username -> id, password hash, role).
+ * The same users log in over and over during load tests; with the cache a repeat login costs
+ * only the password check instead of a database round-trip plus the check.
+ * Unknown usernames are not cached, so a new registration is visible immediately. Nothing in the
+ * application changes roles; a role changed directly in the database is picked up after the TTL.
+ */
+@Service
+public class UserCredentialsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCredentialsCache.class);
+
+    private static final String METRIC_NAME = "ltapp.auth.user.cache";
+
+    private final UserRepository userRepository;
+    private final BoundedTtlCache<String, UserCredentials> entries;
+    private final boolean enabled;
+    private final long ttlMs;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public UserCredentialsCache(UserRepository userRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${ltapp.auth.user-cache.enabled:true}") boolean enabled,
+                                @Value("${ltapp.auth.user-cache.max-size:10000}") int maxSize,
+                                @Value("${ltapp.auth.user-cache.ttl-ms:300000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.entries = new BoundedTtlCache<>(maxSize);
+        this.ttlMs = ttlMs;
+        this.hits = Counter.builder(METRIC_NAME)
+                .description("User credentials cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME)
+                .description("User credentials cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", entries, BoundedTtlCache::size)
+                .description("Number of cached users")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find login credentials of a user, from the cache or the database.
+     */
+    public Optional<UserCredentials> findByUsername(String username) {
+        if (!enabled) {
+            return userRepository.findByUsername(username).map(this::toCredentials);
+        }
+
+        long now = System.currentTimeMillis();
+        UserCredentials cached = entries.get(username, now);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        Optional<UserCredentials> loaded = userRepository.findByUsername(username).map(this::toCredentials);
+        loaded.ifPresent(credentials -> entries.put(username, credentials, now + ttlMs, now));
+        return loaded;
+    }
+
+    /**
+     * Drop a user from the cache after registration or a password re-hash.
+     */
+    public void invalidate(String username) {
+        entries.remove(username);
+    }
+
+    /**
+     * Remove all expired users.
+     */
+    @Scheduled(fixedDelayString = "${ltapp.auth.user-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        int removed = entries.evictExpired(System.currentTimeMillis());
+        if (removed > 0) {
+            logger.debug("Evicted {} expired users from cache", removed);
+        }
+    }
+
+    private UserCredentials toCredentials(UserEntity user) {
+        return new UserCredentials(user.getId(), user.getUsername(), user.getPasswordHash(), user.getRole());
+    }
+
+    /**
+     * Immutable snapshot of the columns needed for login.
+     */
+    public static final class UserCredentials {
+        private final Integer id;
+        private final String username;
+        private final String passwordHash;
+        private final String role;
+
+        UserCredentials(Integer id, String username, String passwordHash, String role) {
+            this.id = id;
+            this.username = username;
+            this.passwordHash = passwordHash;
+            this.role = role;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getPasswordHash() {
+            return passwordHash;
+        }
+
+        public String getRole() {
+            return role;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent map with a per-entry expiry time and a size bound.
+ * When the cache is full, a put looks at the next few entries of a cursor that cycles through the
+ * table, drops the expired ones and, if none was expired, one live entry. The cursor continues where
+ * the previous eviction stopped, so evictions go round the whole table instead of emptying the same
+ * bins, and the work per put is amortized constant. Removing all expired entries is left to a
+ * periodic evictExpired() call of the owner.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Object evictionLock = new Object();
+    // Guarded by evictionLock
+    private Iterator<Map.Entry<K, Entry<V>>> cursor;
+
+    public BoundedTtlCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache max size must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return the value of a key, or null if it is absent or expired.
+     */
+    public V get(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(K key, V value, long expiresAt, long now) {
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evictSample(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all expired entries.
+     *
+     * @return the number of removed entries
+     */
+    public int evictExpired(long now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        return Math.max(0, before - entries.size());
+    }
+
+    private void evictSample(long now) {
+        synchronized (evictionLock) {
+            Map.Entry<K, Entry<V>> victim = null;
+            boolean removed = false;
+            for (int sampled = 0; sampled < EVICTION_SAMPLE; sampled++) {
+                if (cursor == null || !cursor.hasNext()) {
+                    // Wrap around; the iterator is weakly consistent, so it sees concurrent updates
+                    cursor = entries.entrySet().iterator();
+                    if (!cursor.hasNext()) {
+                        break;
+                    }
+                }
+                Map.Entry<K, Entry<V>> candidate = cursor.next();
+                if (candidate.getValue().expiresAt <= now) {
+                    removed |= entries.remove(candidate.getKey(), candidate.getValue());
+                } else if (victim == null) {
+                    victim = candidate;
+                }
+            }
+            // The live entry dropped is the one the cursor reached first, i.e. the least recently visited
+            if (!removed && victim != null) {
+                entries.remove(victim.getKey(), victim.getValue());
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
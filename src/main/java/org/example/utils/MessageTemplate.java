@@ -0,0 +1,70 @@
+package org.example.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Message pattern compiled once into literal and placeholder segments, so rendering a message is a
+ * single pass into a presized StringBuilder instead of repeated String.replace calls.
+ * Supported placeholders: {index} (message number) and {random} (0..9999); anything else is literal.
+ */
+public final class MessageTemplate {
+
+    private static final String INDEX = "{index}";
+    private static final String RANDOM = "{random}";
+
+    // Segment is either a literal String or one of the placeholder markers below
+    private static final Object INDEX_SEGMENT = new Object();
+    private static final Object RANDOM_SEGMENT = new Object();
+
+    private final Object[] segments;
+    private final int estimatedLength;
+
+    private MessageTemplate(Object[] segments, int estimatedLength) {
+        this.segments = segments;
+        this.estimatedLength = estimatedLength;
+    }
+
+    public static MessageTemplate compile(String pattern) {
+        List<Object> segments = new ArrayList<>();
+        int literalLength = 0;
+        int placeholders = 0;
+        int start = 0;
+        while (start < pattern.length()) {
+            int indexAt = pattern.indexOf(INDEX, start);
+            int randomAt = pattern.indexOf(RANDOM, start);
+            int next = indexAt < 0 ? randomAt : randomAt < 0 ? indexAt : Math.min(indexAt, randomAt);
+            if (next < 0) {
+                break;
+            }
+            if (next > start) {
+                segments.add(pattern.substring(start, next));
+                literalLength += next - start;
+            }
+            boolean isIndex = next == indexAt;
+            segments.add(isIndex ? INDEX_SEGMENT : RANDOM_SEGMENT);
+            placeholders++;
+            start = next + (isIndex ? INDEX.length() : RANDOM.length());
+        }
+        if (start < pattern.length()) {
+            segments.add(pattern.substring(start));
+            literalLength += pattern.length() - start;
+        }
+        return new MessageTemplate(segments.toArray(), literalLength + placeholders * 10);
+    }
+
+    public String render(long index) {
+        StringBuilder builder = new StringBuilder(estimatedLength);
+        for (Object segment : segments) {
+            if (segment == INDEX_SEGMENT) {
+                builder.append(index);
+            } else if (segment == RANDOM_SEGMENT) {
+                builder.append(ThreadLocalRandom.current().nextInt(10000));
+            } else {
+                builder.append((String) segment);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,54 @@
+-- Flyway migration: Declarative range partitioning of documents by created_at
+-- The existing heap is kept as-is and attached as the first (legacy) partition,
+-- so no bytea data is copied. Future partitions are created ahead of time by
+-- DocumentPartitionService, and retention drops whole partitions instead of DELETEs.
+-- PostgreSQL 16 compatible
+
+-- Free the original names for the partitioned parent
+ALTER TABLE documents RENAME TO documents_legacy;
+-- A partition's primary key has to include the partition key as well
+ALTER TABLE documents_legacy DROP CONSTRAINT documents_pkey;
+ALTER TABLE documents_legacy ADD CONSTRAINT documents_legacy_pkey PRIMARY KEY (id, created_at);
+ALTER INDEX idx_documents_name RENAME TO idx_documents_legacy_name;
+ALTER INDEX idx_documents_status RENAME TO idx_documents_legacy_status;
+ALTER INDEX idx_documents_uploaded_by RENAME TO idx_documents_legacy_uploaded_by;
+ALTER INDEX idx_documents_created_at RENAME TO idx_documents_legacy_created_at;
+
+-- Partitioned parent. The partition key must be part of the primary key;
+-- ids stay unique because they still come from the shared documents_id_seq sequence.
+CREATE TABLE documents (
+    id INTEGER NOT NULL DEFAULT nextval('documents_id_seq'),
+    name VARCHAR(255) NOT NULL,
+    document BYTEA NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'UPLOADED',
+    version INTEGER NOT NULL DEFAULT 1,
+    uploaded_by VARCHAR(100),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT documents_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT documents_status_check CHECK (status IN ('UPLOADED', 'SIGNED')),
+    CONSTRAINT documents_version_positive CHECK (version > 0)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE documents_id_seq OWNED BY documents.id;
+
+-- Indexes are declared on the parent and propagated to every partition
+CREATE INDEX idx_documents_name ON documents(name);
+CREATE INDEX idx_documents_status ON documents(status);
+CREATE INDEX idx_documents_uploaded_by ON documents(uploaded_by);
+CREATE INDEX idx_documents_created_at ON documents(created_at);
+
+-- Attach existing rows as the legacy partition: everything up to the start of the next UTC day.
+-- Matching indexes on documents_legacy are reused instead of being rebuilt.
+DO $$
+DECLARE
+    legacy_upper TIMESTAMP WITH TIME ZONE := date_trunc('day', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC'
+                                             + INTERVAL '1 day';
+BEGIN
+    EXECUTE format(
+        'ALTER TABLE documents ATTACH PARTITION documents_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+        legacy_upper);
+END
+$$;
+
+-- Safety net: rows outside any range partition land here instead of failing the insert
+CREATE TABLE documents_default PARTITION OF documents DEFAULT;
@@ -0,0 +1,12 @@
+-- Flyway migration: Covering index for per-user document listing (GET /api/docs/mine)
+-- Keyset pages are read as index-only scans: the index carries every listed column,
+-- so the bytea heap pages are never touched. It also serves uploaded_by lookups,
+-- which makes the single-column index redundant.
+-- PostgreSQL 16 compatible
+
+CREATE INDEX idx_documents_uploaded_by_created_at
+    ON documents (uploaded_by, created_at DESC, id)
+    INCLUDE (name, status, version);
+
+-- Dropping the parent index also drops its per-partition indexes
+DROP INDEX IF EXISTS idx_documents_uploaded_by;
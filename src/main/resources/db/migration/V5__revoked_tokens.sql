@@ -0,0 +1,12 @@
+-- Flyway migration: Revoked access tokens
+-- JWTs are revoked by their jti until they expire; rows past expires_at are useless and pruned.
+-- The in-memory revocation list is rebuilt from this table at startup and on every reload.
+-- PostgreSQL 16 compatible
+
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);